@@ -19,6 +19,8 @@ package org.kordamp.json;
 
 import org.kordamp.json.util.JSONUtils;
 import org.kordamp.json.util.JsonEventListener;
+import org.kordamp.json.util.LazyJSON;
+import org.kordamp.json.util.LazyValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +40,7 @@ import java.util.TreeSet;
  */
 abstract class AbstractJSON implements JSON {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractJSON.class);
-    private static final WritingVisitor NORMAL = new WritingVisitor() {
+    static final WritingVisitor NORMAL = new WritingVisitor() {
         public Collection keySet(JSONObject o) {
             return o.keySet();
         }
@@ -48,10 +50,14 @@ abstract class AbstractJSON implements JSON {
         }
 
         public void on(Object value, Writer w) throws IOException {
-            w.write(JSONUtils.valueToString(value));
+            if (value instanceof LazyValue) {
+                ((LazyValue) value).write(w);
+            } else {
+                w.write(JSONUtils.valueToString(value));
+            }
         }
     };
-    private static final WritingVisitor CANONICAL = new WritingVisitor() {
+    static final WritingVisitor CANONICAL = new WritingVisitor() {
         public Collection keySet(JSONObject o) {
             return new TreeSet(o.keySet()); // sort them alphabetically
         }
@@ -61,11 +67,33 @@ abstract class AbstractJSON implements JSON {
         }
 
         public void on(Object value, Writer w) throws IOException {
-            w.write(JSONUtils.valueToCanonicalString(value));
+            if (value instanceof LazyValue && ((LazyValue) value).getValue() instanceof JSON) {
+                ((JSON) ((LazyValue) value).getValue()).writeCanonical(w);
+            } else {
+                w.write(JSONUtils.valueToCanonicalString(value));
+            }
         }
     };
     private static CycleSet cycleSet = new CycleSet();
 
+    /**
+     * See setSerializationCached(boolean).
+     */
+    private boolean serializationCached;
+    /**
+     * Compact text of this value, kept while it is frozen or its
+     * serialization is cached, null when out of date.
+     */
+    private transient String cachedText;
+    /**
+     * Hash code of this value, kept like the cached text, 0 when out of date.
+     */
+    private transient int cachedHashCode;
+    /**
+     * The object or array whose cached text includes the text of this value.
+     */
+    private transient AbstractJSON cachingParent;
+
     /**
      * Adds a reference for cycle detection check.
      *
@@ -207,6 +235,21 @@ abstract class AbstractJSON implements JSON {
         }
     }
 
+    /**
+     * Returns a deep copy of an object or array, or of one kept as source
+     * text, any other value is immutable and returned as is.
+     */
+    static Object deepCopyValue(Object value) {
+        if (value instanceof JSONObject) {
+            return ((JSONObject) value).deepCopy();
+        } else if (value instanceof JSONArray) {
+            return ((JSONArray) value).deepCopy();
+        } else if (value instanceof LazyJSON) {
+            return ((LazyJSON) value).copy();
+        }
+        return value;
+    }
+
     /**
      * Fires a warning event.
      *
@@ -248,6 +291,8 @@ abstract class AbstractJSON implements JSON {
             return ((Class) value).getName();
         } else if (value instanceof JSONFunction) {
             return value;
+        } else if (value instanceof LazyValue) {
+            return value;
         } else if (value instanceof JSONString) {
             return JSONSerializer.toJSON((JSONString) value, jsonConfig);
         } else if (value instanceof JSON) {
@@ -272,10 +317,100 @@ abstract class AbstractJSON implements JSON {
     }
 
     public final Writer write(Writer writer) throws IOException {
+        if (serializationCached || isFrozen()) {
+            String text = toString();
+            if (text != null) {
+                writer.write(text);
+                return writer;
+            }
+        }
         write(writer, NORMAL);
         return writer;
     }
 
+    public boolean isSerializationCached() {
+        return serializationCached;
+    }
+
+    /**
+     * Keeps the compact text made by <code>toString()</code> and
+     * <code>write(Writer)</code> until this value is modified. The objects
+     * and arrays it contains cache their text as well when it is serialized,
+     * modifying one of them through its own methods drops the text of every
+     * value containing it, so an unchanged subtree is written as a single
+     * String. The hash code is kept the same way.
+     */
+    public void setSerializationCached(boolean serializationCached) {
+        this.serializationCached = serializationCached;
+        if (!serializationCached) {
+            cachedText = null;
+            cachedHashCode = 0;
+        }
+    }
+
+    /**
+     * Returns the cached compact text of this value, null if there is none.
+     */
+    String getCachedText() {
+        return cachedText;
+    }
+
+    /**
+     * Keeps the compact text of this value if it is frozen or its
+     * serialization is cached.
+     */
+    void setCachedText(String text) {
+        if (serializationCached || isFrozen()) {
+            cachedText = text;
+        }
+    }
+
+    /**
+     * Returns the cached hash code of this value, 0 if there is none.
+     */
+    int getCachedHashCode() {
+        return cachedHashCode;
+    }
+
+    /**
+     * Keeps the hash code of this value if it is frozen or its serialization
+     * is cached.
+     */
+    void setCachedHashCode(int hashCode) {
+        if (serializationCached || isFrozen()) {
+            cachedHashCode = hashCode;
+        }
+    }
+
+    /**
+     * Called for every value of this object or array that is serialized or
+     * hashed, so that the contained objects and arrays are cached too and drop
+     * the text and hash code of this value when they are modified.
+     */
+    void cacheChild(Object value) {
+        if (serializationCached && value instanceof AbstractJSON) {
+            AbstractJSON child = (AbstractJSON) value;
+            if (!child.isFrozen()) {
+                child.serializationCached = true;
+                child.cachingParent = this;
+            }
+        }
+    }
+
+    /**
+     * Drops the cached text and hash code of this value and of the values
+     * containing it, called by every method that modifies this value.
+     */
+    protected void changed() {
+        if (isFrozen()) {
+            return;
+        }
+        for (AbstractJSON json = this; json != null; json = json.cachingParent) {
+            json.cachedText = null;
+            json.cachedHashCode = 0;
+        }
+    }
+
     public final Writer writeCanonical(Writer writer) throws IOException {
         write(writer, CANONICAL);
         return writer;
@@ -100,4 +100,27 @@ public interface JSON extends Serializable {
      * Writes the canonicalized form of this JSON object.
      */
     Writer writeCanonical(Writer w) throws IOException;
+
+    /**
+     * Makes this value and every object and array it contains immutable.
+     * Mutators then throw an UnsupportedOperationException, and
+     * <code>hashCode()</code> and <code>toString()</code> are computed once.
+     * A frozen tree may be shared between threads once published.
+     * Implementations outside this library can not be frozen unless they
+     * override this method, the default throws an
+     * UnsupportedOperationException.
+     *
+     * @return this value.
+     */
+    default JSON freeze() {
+        throw new UnsupportedOperationException(getClass().getName() + " can not be frozen");
+    }
+
+    /**
+     * Returns true if this value can not be modified, see {@link #freeze()}.
+     * The default returns false.
+     */
+    default boolean isFrozen() {
+        return false;
+    }
 }
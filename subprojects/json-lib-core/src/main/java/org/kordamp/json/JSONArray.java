@@ -21,19 +21,28 @@ import org.kordamp.ezmorph.Morpher;
 import org.kordamp.ezmorph.object.IdentityObjectMorpher;
 import org.kordamp.json.processors.JsonValueProcessor;
 import org.kordamp.json.processors.JsonVerifier;
+import org.kordamp.json.util.JSONProjection;
 import org.kordamp.json.util.JSONTokener;
 import org.kordamp.json.util.JSONUtils;
+import org.kordamp.json.util.LazyValue;
+import org.kordamp.json.util.PersistentList;
+import org.kordamp.json.util.PrimitiveList;
+import org.kordamp.json.util.ReaderJSONTokener;
 
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -41,7 +50,11 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A JSONArray is an ordered sequence of values. Its external text form is a
@@ -102,6 +115,11 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * A flag for XML processing.
      */
     private boolean expandElements;
+    /**
+     * True once freeze() moved the elements to a PersistentList, or wrapped
+     * them in an unmodifiable List when they are kept in a primitive array.
+     */
+    private boolean frozen;
 
     /**
      * Construct an empty JSONArray.
@@ -143,6 +161,8 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             return Impl.fromCollection((Collection) object, jsonConfig);
         } else if (object instanceof JSONTokener) {
             return Impl.fromJSONTokener((JSONTokener) object, jsonConfig);
+        } else if (object instanceof Reader) {
+            return Impl.fromReader((Reader) object, jsonConfig);
         } else if (object instanceof String) {
             return Impl.fromString((String) object, jsonConfig);
         } else if (object != null && object.getClass()
@@ -196,6 +216,23 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
         }
     }
 
+    /**
+     * Creates a JSONArray from a character stream.<br>
+     * The stream is parsed incrementally through a {@link ReaderJSONTokener},
+     * it is never materialized as a String.
+     *
+     * @param reader the source of the JSON text
+     *
+     * @throws JSONException if the stream can not be converted to a proper
+     *                       JSONArray.
+     */
+    public static JSONArray fromObject(Reader reader, JsonConfig jsonConfig) {
+        if (reader == null) {
+            return fromObject((Object) null, jsonConfig);
+        }
+        return Impl.fromReader(reader, jsonConfig);
+    }
+
     /**
      * Get the collection type from a getter or setter, or null if no type was
      * found.<br/>
@@ -690,6 +727,14 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * those writing custom JSON Bean/Value processors.
      */
     public static class Impl {
+        /**
+         * Minimum length of a String source parsed in parallel when
+         * {@link JsonConfig#isParallelParsing()} is enabled.
+         */
+        public static final int PARALLEL_PARSING_THRESHOLD = 1 << 16;
+
+        private static final int MIN_CHUNK_ELEMENTS = 64;
+
         /**
          * Construct a JSONArray from an boolean[].<br>
          *
@@ -816,11 +861,19 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             fireArrayStartEvent(jsonConfig);
             JSONArray jsonArray = new JSONArray();
             try {
-                for (int i = 0; i < array.length; i++) {
-                    Double d = array[i];
-                    JSONUtils.testValidity(d);
-                    jsonArray.addValue(d, jsonConfig);
-                    fireElementAddedEvent(i, d, jsonConfig);
+                if (jsonConfig.findJsonValueProcessor(Double.class) == null) {
+                    for (int i = 0; i < array.length; i++) {
+                        JSONUtils.testValidity(array[i]);
+                    }
+                    jsonArray.elements = PrimitiveList.of(array);
+                    fireElementAddedEvents(jsonArray, jsonConfig);
+                } else {
+                    for (int i = 0; i < array.length; i++) {
+                        Double d = array[i];
+                        JSONUtils.testValidity(d);
+                        jsonArray.addValue(d, jsonConfig);
+                        fireElementAddedEvent(i, d, jsonConfig);
+                    }
                 }
             } catch (JSONException jsone) {
                 removeInstance(array);
@@ -939,10 +992,15 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             }
             fireArrayStartEvent(jsonConfig);
             JSONArray jsonArray = new JSONArray();
-            for (int i = 0; i < array.length; i++) {
-                Number n = Integer.valueOf(array[i]);
-                jsonArray.addValue(n, jsonConfig);
-                fireElementAddedEvent(i, n, jsonConfig);
+            if (jsonConfig.findJsonValueProcessor(Integer.class) == null) {
+                jsonArray.elements = PrimitiveList.of(array);
+                fireElementAddedEvents(jsonArray, jsonConfig);
+            } else {
+                for (int i = 0; i < array.length; i++) {
+                    Number n = Integer.valueOf(array[i]);
+                    jsonArray.addValue(n, jsonConfig);
+                    fireElementAddedEvent(i, n, jsonConfig);
+                }
             }
 
             removeInstance(array);
@@ -973,10 +1031,16 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             }
             fireArrayStartEvent(jsonConfig);
             JSONArray jsonArray = new JSONArray();
-            for (int i = 0; i < array.length; i++) {
-                Number n = JSONUtils.transformNumber(Long.valueOf(array[i]));
-                jsonArray.addValue(n, jsonConfig);
-                fireElementAddedEvent(i, n, jsonConfig);
+            if (jsonConfig.findJsonValueProcessor(Integer.class) == null &&
+                jsonConfig.findJsonValueProcessor(Long.class) == null) {
+                jsonArray.elements = PrimitiveList.of(array);
+                fireElementAddedEvents(jsonArray, jsonConfig);
+            } else {
+                for (int i = 0; i < array.length; i++) {
+                    Number n = JSONUtils.transformNumber(Long.valueOf(array[i]));
+                    jsonArray.addValue(n, jsonConfig);
+                    fireElementAddedEvent(i, n, jsonConfig);
+                }
             }
 
             removeInstance(array);
@@ -1129,6 +1193,17 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             return jsonArray;
         }
 
+        /**
+         * Fires the element added events of an array filled all at once.
+         */
+        private static void fireElementAddedEvents(JSONArray jsonArray, JsonConfig jsonConfig) {
+            if (jsonConfig.isEventTriggeringEnabled()) {
+                for (int i = 0, size = jsonArray.size(); i < size; i++) {
+                    fireElementAddedEvent(i, jsonArray.elements.get(i), jsonConfig);
+                }
+            }
+        }
+
         public static JSONArray fromJSONString(JSONString string, JsonConfig jsonConfig) {
             return fromJSONTokener(new JSONTokener(string.toJSONString()), jsonConfig);
         }
@@ -1136,11 +1211,29 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
         // ------------------------------------------------------
 
         public static JSONArray fromJSONTokener(JSONTokener tokener, JsonConfig jsonConfig) {
+            return fromJSONTokener(tokener, jsonConfig, new JSONArray());
+        }
 
-            JSONArray jsonArray = new JSONArray();
+        /**
+         * Parses an array into an existing JSONArray, which is cleared first
+         * and returned. Reusing the same target for every message keeps its
+         * storage instead of allocating a new array each time. The target is
+         * left partially filled if the text is not valid.
+         */
+        public static JSONArray fromJSONTokener(JSONTokener tokener, JsonConfig jsonConfig, JSONArray target) {
+            if (jsonConfig.isStrictMode()) {
+                return fromJSONTokenerStrict(tokener, jsonConfig, target);
+            }
+
+            JSONArray jsonArray = target;
+            jsonArray.clear();
             int index = 0;
+            int position = 0;
+            JSONProjection outer = tokener.getProjection();
+            JSONProjection projection = outer != null ? outer : jsonConfig.getProjection();
 
             try {
+                tokener.enter(jsonConfig);
                 if (tokener.nextClean() != '[') {
                     throw tokener.syntaxError("A JSONArray text must start with '['");
                 }
@@ -1151,12 +1244,19 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
                 }
                 tokener.back();
                 for (; ; ) {
-                    if (tokener.nextClean() == ',') {
+                    JSONProjection selected = projection != null ? projection.select(position) : null;
+                    tokener.checkMembers(++position);
+                    if (projection != null && selected == null) {
+                        tokener.skipValue();
+                    } else if (tokener.nextClean() == ',') {
                         tokener.back();
                         jsonArray.elements.add(JSONNull.getInstance());
                         fireElementAddedEvent(index, jsonArray.get(index++), jsonConfig);
                     } else {
                         tokener.back();
+                        if (selected != null) {
+                            tokener.setProjection(selected);
+                        }
                         Object v = tokener.nextValue(jsonConfig);
                         if (!JSONUtils.isFunctionHeader(v)) {
                             jsonArray.addValue(v, jsonConfig);
@@ -1213,11 +1313,194 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             } catch (JSONException jsone) {
                 fireErrorEvent(jsone, jsonConfig);
                 throw jsone;
+            } finally {
+                tokener.setProjection(outer);
+                tokener.exit();
+            }
+        }
+
+        /**
+         * Parses an array following RFC 8259 only, see
+         * {@link JsonConfig#setStrictMode(boolean)}.
+         */
+        private static JSONArray fromJSONTokenerStrict(JSONTokener tokener, JsonConfig jsonConfig, JSONArray target) {
+            JSONArray jsonArray = target;
+            jsonArray.clear();
+            int index = 0;
+            int position = 0;
+            JSONProjection outer = tokener.getProjection();
+            JSONProjection projection = outer != null ? outer : jsonConfig.getProjection();
+
+            try {
+                tokener.enter(jsonConfig);
+                if (tokener.nextCleanStrict() != '[') {
+                    throw tokener.syntaxError("A JSONArray text must start with '['");
+                }
+                fireArrayStartEvent(jsonConfig);
+                char c = tokener.nextCleanStrict();
+                if (c == ']') {
+                    fireArrayEndEvent(jsonConfig);
+                    return jsonArray;
+                }
+                tokener.back();
+                for (; ; ) {
+                    JSONProjection selected = projection != null ? projection.select(position) : null;
+                    tokener.checkMembers(++position);
+                    if (projection != null && selected == null) {
+                        tokener.skipValue();
+                    } else {
+                        if (selected != null) {
+                            tokener.setProjection(selected);
+                        }
+                        Object v = tokener.nextValueStrict(jsonConfig);
+                        jsonArray.addValue(v, jsonConfig);
+                        fireElementAddedEvent(index, jsonArray.get(index++), jsonConfig);
+                    }
+                    c = tokener.nextCleanStrict();
+                    if (c == ']') {
+                        fireArrayEndEvent(jsonConfig);
+                        return jsonArray;
+                    }
+                    if (c != ',') {
+                        throw tokener.syntaxError("Expected a ',' or ']'");
+                    }
+                }
+            } catch (JSONException jsone) {
+                fireErrorEvent(jsone, jsonConfig);
+                throw jsone;
+            } finally {
+                tokener.setProjection(outer);
+                tokener.exit();
             }
         }
 
+        public static JSONArray fromReader(Reader reader, JsonConfig jsonConfig) {
+            return fromJSONTokener(new ReaderJSONTokener(reader), jsonConfig);
+        }
+
         public static JSONArray fromString(String string, JsonConfig jsonConfig) {
-            return fromJSONTokener(new JSONTokener(string), jsonConfig);
+            if (jsonConfig.isParallelParsing() && string.length() >= PARALLEL_PARSING_THRESHOLD) {
+                return fromStringParallel(string, jsonConfig, ForkJoinPool.commonPool());
+            }
+            return fromStringSequential(string, jsonConfig);
+        }
+
+        /**
+         * Parses a top-level array on the given pool, see
+         * {@link JsonConfig#setParallelParsing(boolean)}. Falls back to a
+         * sequential parse when the text uses lenient syntax, has too few
+         * elements, when event triggering is enabled, a projection is set or
+         * the length of the input or the number of members is limited.
+         */
+        public static JSONArray fromStringParallel(String string, JsonConfig jsonConfig, ForkJoinPool pool) {
+            final String text = string.trim();
+            boolean sequential = jsonConfig.isEventTriggeringEnabled() || jsonConfig.getProjection() != null
+                || jsonConfig.getMaxLength() > 0 || jsonConfig.getMaxMembers() > 0;
+            int[] commas = sequential ? null : elementSeparators(text);
+            int chunks = commas == null ? 0 : Math.min((commas.length + 1) / MIN_CHUNK_ELEMENTS, pool.getParallelism() * 4);
+            if (chunks < 2) {
+                return fromStringSequential(string, jsonConfig);
+            }
+
+            final JsonConfig config = jsonConfig;
+            List tasks = new ArrayList(chunks);
+            int elements = commas.length + 1;
+            int start = 1;
+            for (int chunk = 1; chunk <= chunks; chunk++) {
+                int last = (int) ((long) elements * chunk / chunks);
+                final int from = start;
+                final int to = chunk == chunks ? text.length() - 1 : commas[last - 1];
+                tasks.add(pool.submit(new Callable() {
+                    public Object call() {
+                        return fromJSONTokener(new JSONTokener("[" + text.substring(from, to) + "]"), config);
+                    }
+                }));
+                start = to + 1;
+            }
+
+            JSONArray jsonArray = new JSONArray();
+            for (Iterator i = tasks.iterator(); i.hasNext(); ) {
+                jsonArray.elements.addAll(((JSONArray) ((ForkJoinTask) i.next()).join()).elements);
+            }
+            return jsonArray;
+        }
+
+        private static JSONArray fromStringSequential(String string, JsonConfig jsonConfig) {
+            JSONTokener tokener = new JSONTokener(string);
+            JSONArray jsonArray = fromJSONTokener(tokener, jsonConfig);
+            if (jsonConfig.isStrictMode() && tokener.nextCleanStrict() != 0) {
+                throw tokener.syntaxError("Unexpected text after the JSONArray");
+            }
+            return jsonArray;
+        }
+
+        /**
+         * Returns the positions of the commas separating the top-level elements
+         * of a trimmed array text, or null if the text is not a single array or
+         * uses lenient syntax that only a sequential parse handles correctly:
+         * comments, single quotes, functions, ';' separators and empty elements.
+         * Nothing but structure is checked, syntax errors are left to the parse.
+         */
+        private static int[] elementSeparators(String text) {
+            int length = text.length();
+            if (length == 0 || text.charAt(0) != '[') {
+                return null;
+            }
+            int[] commas = new int[64];
+            int count = 0;
+            int depth = 0;
+            char last = 0;
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case ' ':
+                    case '\t':
+                    case '\n':
+                    case '\r':
+                        continue;
+                    case '"':
+                        for (i++; i < length && text.charAt(i) != '"'; i++) {
+                            if (text.charAt(i) == '\\') {
+                                i++;
+                            }
+                        }
+                        break;
+                    case '[':
+                    case '{':
+                        depth++;
+                        break;
+                    case ']':
+                    case '}':
+                        if (last == ',') {
+                            return null;
+                        }
+                        if (--depth == 0) {
+                            return i == length - 1 ? Arrays.copyOf(commas, count) : null;
+                        }
+                        break;
+                    case ',':
+                        if (last == ',' || last == '[' || last == '{') {
+                            return null;
+                        }
+                        if (depth == 1) {
+                            if (count == commas.length) {
+                                commas = Arrays.copyOf(commas, count * 2);
+                            }
+                            commas[count++] = i;
+                        }
+                        break;
+                    case '/':
+                    case '#':
+                    case '\'':
+                    case '(':
+                    case ';':
+                        return null;
+                    default:
+                        break;
+                }
+                last = c;
+            }
+            return null;
         }
 
         public static void processArrayDimensions(JSONArray jsonArray, List dims, int index) {
@@ -1239,6 +1522,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public void add(int index, Object value, JsonConfig jsonConfig) {
+        changed();
         this.elements.add(index, processValue(value, jsonConfig));
     }
 
@@ -1258,6 +1542,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public boolean addAll(int index, Collection collection, JsonConfig jsonConfig) {
+        changed();
         if (collection == null || collection.size() == 0) {
             return false;
         }
@@ -1299,10 +1584,12 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * Produce an Object[] with the contents of this JSONArray.
      */
     public Object[] toArray() {
+        resolveLazyValues();
         return this.elements.toArray();
     }
 
     public Object[] toArray(Object[] array) {
+        resolveLazyValues();
         return elements.toArray(array);
     }
 
@@ -1311,6 +1598,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public boolean remove(Object o) {
+        changed();
         return elements.remove(o);
     }
 
@@ -1335,6 +1623,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public void clear() {
+        changed();
         elements.clear();
     }
 
@@ -1350,7 +1639,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
        * Object o = opt( index ); if( o == null ){ throw new JSONException(
        * "JSONArray[" + index + "] not found." ); } return o;
        */
-        return this.elements.get(index);
+        return resolveLazyValue(index, this.elements.get(index));
     }
 
     public Object set(int index, Object value) {
@@ -1362,14 +1651,17 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public Object remove(int index) {
+        changed();
         return elements.remove(index);
     }
 
     public int indexOf(Object o) {
+        resolveLazyValues();
         return elements.indexOf(o);
     }
 
     public int lastIndexOf(Object o) {
+        resolveLazyValues();
         return elements.lastIndexOf(o);
     }
 
@@ -1384,14 +1676,17 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public List subList(int fromIndex, int toIndex) {
-        return elements.subList(fromIndex, toIndex);
+        resolveLazyValues();
+        return new JSONArraySubList(elements.subList(fromIndex, toIndex));
     }
 
     public boolean contains(Object o, JsonConfig jsonConfig) {
+        resolveLazyValues();
         return elements.contains(processValue(o, jsonConfig));
     }
 
     public boolean containsAll(Collection collection, JsonConfig jsonConfig) {
+        resolveLazyValues();
         return elements.containsAll(fromObject(collection, jsonConfig));
     }
 
@@ -1403,6 +1698,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray discard(int index) {
+        changed();
         elements.remove(index);
         return this;
     }
@@ -1415,6 +1711,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray discard(Object o) {
+        changed();
         elements.remove(o);
         return this;
     }
@@ -1451,6 +1748,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray element(Collection value, JsonConfig jsonConfig) {
+        changed();
         if (value instanceof JSONArray) {
             elements.add(value);
             return this;
@@ -1530,6 +1828,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       finite.
      */
     public JSONArray element(int index, Collection value, JsonConfig jsonConfig) {
+        changed();
         if (value instanceof JSONArray) {
             if (index < 0) {
                 throw new JSONException("JSONArray[" + index + "] not found.");
@@ -1626,6 +1925,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       invalid number.
      */
     public JSONArray element(int index, Map value, JsonConfig jsonConfig) {
+        changed();
         if (value instanceof JSONObject) {
             if (index < 0) {
                 throw new JSONException("JSONArray[" + index + "] not found.");
@@ -1679,6 +1979,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       invalid number.
      */
     public JSONArray element(int index, Object value, JsonConfig jsonConfig) {
+        changed();
         JSONUtils.testValidity(value);
         if (index < 0) {
             throw new JSONException("JSONArray[" + index + "] not found.");
@@ -1729,6 +2030,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       invalid number.
      */
     public JSONArray element(int index, String value, JsonConfig jsonConfig) {
+        changed();
         if (index < 0) {
             throw new JSONException("JSONArray[" + index + "] not found.");
         }
@@ -1761,6 +2063,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray element(JSONNull value) {
+        changed();
         this.elements.add(value);
         return this;
     }
@@ -1773,6 +2076,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray element(JSONObject value) {
+        changed();
         this.elements.add(value);
         return this;
     }
@@ -1809,6 +2113,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray element(Map value, JsonConfig jsonConfig) {
+        changed();
         if (value instanceof JSONObject) {
             elements.add(value);
             return this;
@@ -1866,6 +2171,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     public JSONArray element(String value, JsonConfig jsonConfig) {
+        changed();
         if (value == null) {
             this.elements.add("");
         } else if (JSONUtils.hasQuotes(value)) {
@@ -1926,6 +2232,10 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       converted to a number.
      */
     public double getDouble(int index) {
+        PrimitiveList primitives = primitiveElements();
+        if (primitives != null) {
+            return primitives.getDouble(index);
+        }
         Object o = get(index);
         if (o != null) {
             try {
@@ -1950,6 +2260,10 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       number.
      */
     public int getInt(int index) {
+        PrimitiveList primitives = primitiveElements();
+        if (primitives != null) {
+            return primitives.getInt(index);
+        }
         Object o = get(index);
         if (o != null) {
             return o instanceof Number ? ((Number) o).intValue() : (int) getDouble(index);
@@ -2007,6 +2321,10 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      *                       converted to a number.
      */
     public long getLong(int index) {
+        PrimitiveList primitives = primitiveElements();
+        if (primitives != null) {
+            return primitives.getLong(index);
+        }
         Object o = get(index);
         if (o != null) {
             return o instanceof Number ? ((Number) o).longValue() : (long) getDouble(index);
@@ -2032,12 +2350,18 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public int hashCode() {
+        int cached = getCachedHashCode();
+        if (cached != 0) {
+            return cached;
+        }
         int hashcode = 29;
 
         for (Iterator e = elements.iterator(); e.hasNext(); ) {
             Object element = e.next();
+            cacheChild(element);
             hashcode += JSONUtils.hashCode(element);
         }
+        setCachedHashCode(hashcode);
         return hashcode;
     }
 
@@ -2064,6 +2388,15 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
             Object o1 = get(i);
             Object o2 = other.get(i);
 
+            if (o1 != null && o2 != null && o1.getClass() == o2.getClass()) {
+                // values of the same type compare directly, the conversions below
+                // are only needed across types
+                if (!o1.equals(o2)) {
+                    return false;
+                }
+                continue;
+            }
+
             // handle nulls
             if (JSONNull.getInstance()
                 .equals(o1)) {
@@ -2156,8 +2489,14 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * array.
      */
     public String toString() {
+        String cached = getCachedText();
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return '[' + join(",") + ']';
+            String text = '[' + join(",") + ']';
+            setCachedText(text);
+            return text;
         } catch (Exception e) {
             return null;
         }
@@ -2255,9 +2594,160 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public void setExpandElements(boolean expandElements) {
+        if (frozen) {
+            throw new UnsupportedOperationException("JSONArray is frozen");
+        }
         this.expandElements = expandElements;
     }
 
+    /**
+     * Makes this array and every object and array it contains immutable,
+     * values parsed lazily are decoded first.
+     *
+     * @return this array.
+     */
+    public JSONArray freeze() {
+        if (!frozen) {
+            for (ListIterator values = elements.listIterator(); values.hasNext(); ) {
+                Object value = values.next();
+                if (value instanceof LazyValue) {
+                    value = ((LazyValue) value).getValue();
+                    values.set(value);
+                }
+                if (value instanceof JSON) {
+                    ((JSON) value).freeze();
+                }
+            }
+            if (elements instanceof PrimitiveList) {
+                elements = Collections.unmodifiableList(elements);
+            } else {
+                elements = PersistentList.of(elements);
+            }
+            frozen = true;
+        }
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns a frozen array with the elements of this frozen array and an
+     * element put or replaced like {@link #element(int, Object)} does, this
+     * array is left unchanged. Every other element is shared with this array.
+     *
+     * @param index The subscript.
+     * @param value An object value.
+     *
+     * @return a frozen JSONArray.
+     *
+     * @throws JSONException If this array is not frozen, if the index is
+     *                       negative or if the value is an invalid number.
+     */
+    public JSONArray with(int index, Object value) {
+        return with(index, value, new JsonConfig());
+    }
+
+    /**
+     * Returns a frozen array with the elements of this frozen array and an
+     * element put or replaced like {@link #element(int, Object, JsonConfig)}
+     * does, this array is left unchanged. Every other element is shared with
+     * this array, so only O(log n) of the element list is copied. A frozen
+     * value is shared as well, any other value is processed and frozen.
+     *
+     * @param index The subscript.
+     * @param value An object value.
+     *
+     * @return a frozen JSONArray.
+     *
+     * @throws JSONException If this array is not frozen, if the index is
+     *                       negative or if the value is an invalid number.
+     */
+    public JSONArray with(int index, Object value, JsonConfig jsonConfig) {
+        verifyIsFrozen();
+        JSONUtils.testValidity(value);
+        if (index < 0) {
+            throw new JSONException("JSONArray[" + index + "] not found.");
+        }
+        if (!(value instanceof JSON && ((JSON) value).isFrozen())) {
+            value = processValue(value, jsonConfig);
+            if (value instanceof JSON) {
+                ((JSON) value).freeze();
+            }
+        }
+        PersistentList list = PersistentList.of(elements);
+        if (index < list.size()) {
+            list = list.with(index, value);
+        } else {
+            while (index != list.size()) {
+                list = list.plus(JSONNull.getInstance());
+            }
+            list = list.plus(value);
+        }
+        return frozenCopy(list);
+    }
+
+    /**
+     * Returns a frozen array with the elements of this frozen array but one,
+     * this array is left unchanged. Every other element is shared with this
+     * array.
+     *
+     * @param index The subscript.
+     *
+     * @return a frozen JSONArray.
+     *
+     * @throws JSONException             If this array is not frozen.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public JSONArray without(int index) {
+        verifyIsFrozen();
+        return frozenCopy(PersistentList.of(elements)
+            .without(index));
+    }
+
+    private JSONArray frozenCopy(PersistentList list) {
+        JSONArray copy = new JSONArray();
+        copy.elements = list;
+        copy.frozen = true;
+        return copy;
+    }
+
+    /**
+     * Checks if this array is frozen.
+     */
+    private void verifyIsFrozen() {
+        if (!frozen) {
+            throw new JSONException("JSONArray is not frozen.");
+        }
+    }
+
+    /**
+     * Returns a mutable copy of this array and of every object and array it
+     * contains, including those not parsed yet from a lazy tree. Unlike
+     * {@link #fromObject(Object)} the elements are copied as they are, without
+     * going through a JsonConfig, any other element is immutable and shared with
+     * the copy. The copy is not frozen even if this array is, nor does it cache
+     * its serialization.
+     *
+     * @return a new JSONArray.
+     */
+    public JSONArray deepCopy() {
+        JSONArray copy = new JSONArray();
+        copy.expandElements = expandElements;
+        PrimitiveList primitives = primitiveElements();
+        if (primitives != null) {
+            copy.elements = primitives.copy();
+        } else {
+            List<Object> list = new ArrayList<Object>(elements.size());
+            for (Iterator e = elements.iterator(); e.hasNext(); ) {
+                list.add(deepCopyValue(e.next()));
+            }
+            copy.elements = list;
+        }
+        return copy;
+    }
+
     /**
      * Make a string from the contents of this JSONArray. The
      * <code>separator</code> string is inserted between each element. Warning:
@@ -2287,12 +2777,20 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     public String join(String separator, boolean stripQuotes) {
         int len = size();
         StringBuffer sb = new StringBuffer();
+        PrimitiveList primitives = primitiveElements();
 
         for (int i = 0; i < len; i += 1) {
             if (i > 0) {
                 sb.append(separator);
             }
-            String value = JSONUtils.valueToString(this.elements.get(i));
+            String value;
+            if (primitives != null) {
+                value = primitives.toString(i);
+            } else {
+                Object element = this.elements.get(i);
+                cacheChild(element);
+                value = JSONUtils.valueToString(element);
+            }
             sb.append(stripQuotes ? JSONUtils.stripQuotes(value) : value);
         }
         return sb.toString();
@@ -2306,7 +2804,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return An object value, or null if there is no object at that index.
      */
     public Object opt(int index) {
-        return (index < 0 || index >= size()) ? null : this.elements.get(index);
+        return (index < 0 || index >= size()) ? null : resolveLazyValue(index, this.elements.get(index));
     }
 
     /**
@@ -2488,10 +2986,12 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     }
 
     public boolean removeAll(Collection collection, JsonConfig jsonConfig) {
+        changed();
         return elements.removeAll(fromObject(collection, jsonConfig));
     }
 
     public boolean retainAll(Collection collection, JsonConfig jsonConfig) {
+        changed();
         return elements.retainAll(fromObject(collection, jsonConfig));
     }
 
@@ -2528,6 +3028,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * Adds a String without performing any conversion on it.
      */
     protected JSONArray addString(String str) {
+        changed();
         if (str != null) {
             elements.add(str);
         }
@@ -2544,6 +3045,7 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
      * @return this.
      */
     private JSONArray _addValue(Object value, JsonConfig jsonConfig) {
+        changed();
         this.elements.add(value);
         return this;
     }
@@ -2565,9 +3067,23 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
     protected void write(Writer writer, WritingVisitor visitor) throws IOException {
         boolean b = false;
         int len = size();
+        PrimitiveList primitives = primitiveElements();
 
         writer.write('[');
 
+        if (primitives != null) {
+            for (int i = 0; i < len; i += 1) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String v = primitives.toString(i);
+                // canonical numbers are lower case, only matters for exponents
+                writer.write(visitor == CANONICAL ? v.toLowerCase() : v);
+            }
+            writer.write(']');
+            return;
+        }
+
         for (int i = 0; i < len; i += 1) {
             if (b) {
                 writer.write(',');
@@ -2609,6 +3125,80 @@ public final class JSONArray extends AbstractJSON implements JSON, List<Object>,
         return _processValue(value, jsonConfig);
     }
 
+    /**
+     * Returns the elements when they are numbers kept in a primitive array,
+     * null otherwise.
+     */
+    private PrimitiveList primitiveElements() {
+        if (elements instanceof PrimitiveList && ((PrimitiveList) elements).isPrimitive()) {
+            return (PrimitiveList) elements;
+        }
+        return null;
+    }
+
+    /**
+     * Replaces a value parsed lazily by its decoded value.
+     */
+    private Object resolveLazyValue(int index, Object value) {
+        if (value instanceof LazyValue) {
+            changed();
+            value = ((LazyValue) value).getValue();
+            this.elements.set(index, value);
+        }
+        return value;
+    }
+
+    private void resolveLazyValues() {
+        for (int i = 0, size = elements.size(); i < size; i++) {
+            resolveLazyValue(i, elements.get(i));
+        }
+    }
+
+    /**
+     * A view of a range of the elements that calls changed() before every
+     * modification.
+     */
+    private class JSONArraySubList extends AbstractList<Object> implements RandomAccess {
+        private final List<Object> range;
+
+        JSONArraySubList(List<Object> range) {
+            this.range = range;
+        }
+
+        public Object get(int index) {
+            return range.get(index);
+        }
+
+        public int size() {
+            return range.size();
+        }
+
+        public Object set(int index, Object element) {
+            changed();
+            return range.set(index, element);
+        }
+
+        public void add(int index, Object element) {
+            changed();
+            range.add(index, element);
+            modCount++;
+        }
+
+        public Object remove(int index) {
+            changed();
+            Object removed = range.remove(index);
+            modCount++;
+            return removed;
+        }
+
+        protected void removeRange(int fromIndex, int toIndex) {
+            changed();
+            range.subList(fromIndex, toIndex)
+                .clear();
+            modCount++;
+        }
+    }
+
     private class JSONArrayListIterator implements ListIterator {
         int currentIndex = 0;
         int lastIndex = -1;
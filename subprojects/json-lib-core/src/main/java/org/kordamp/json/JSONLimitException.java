@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+/**
+ * Thrown when parsing exceeds one of the limits set on a JsonConfig: nesting
+ * depth, input length, string length, number length or number of members.
+ */
+public class JSONLimitException extends JSONException {
+    private static final long serialVersionUID = 2817440615282305729L;
+
+    public JSONLimitException(String msg) {
+        super(msg);
+    }
+}
@@ -106,6 +106,14 @@ public final class JSONNull implements JSON {
         return writer;
     }
 
+    public JSON freeze() {
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return true;
+    }
+
     public Writer writeCanonical(Writer w) throws IOException {
         return write(w);
     }
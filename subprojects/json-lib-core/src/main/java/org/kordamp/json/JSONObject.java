@@ -20,7 +20,6 @@ package org.kordamp.json;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.DynaProperty;
 import org.apache.commons.beanutils.PropertyUtils;
-import org.apache.commons.collections4.map.ListOrderedMap;
 import org.apache.commons.lang3.StringUtils;
 import org.kordamp.ezmorph.Morpher;
 import org.kordamp.ezmorph.array.ObjectArrayMorpher;
@@ -31,17 +30,23 @@ import org.kordamp.json.processors.JsonValueProcessor;
 import org.kordamp.json.processors.JsonVerifier;
 import org.kordamp.json.processors.PropertyNameProcessor;
 import org.kordamp.json.regexp.RegexpUtils;
+import org.kordamp.json.util.CompactOrderedMap;
 import org.kordamp.json.util.CycleDetectionStrategy;
 import org.kordamp.json.util.EnumMorpher;
+import org.kordamp.json.util.JSONProjection;
 import org.kordamp.json.util.JSONTokener;
 import org.kordamp.json.util.JSONUtils;
+import org.kordamp.json.util.LazyValue;
+import org.kordamp.json.util.PersistentOrderedMap;
 import org.kordamp.json.util.PropertyFilter;
 import org.kordamp.json.util.PropertySetStrategy;
+import org.kordamp.json.util.ReaderJSONTokener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
@@ -49,6 +54,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -127,12 +133,16 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      * The Map where the JSONObject's properties are kept.
      */
     private Map properties;
+    /**
+     * True once freeze() moved the properties to a PersistentOrderedMap.
+     */
+    private boolean frozen;
 
     /**
      * Construct an empty JSONObject.
      */
     public JSONObject() {
-        this.properties = new ListOrderedMap();
+        this.properties = new CompactOrderedMap();
     }
 
     /**
@@ -181,6 +191,8 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             return Impl.fromDynaBean((DynaBean) object, jsonConfig);
         } else if (object instanceof JSONTokener) {
             return Impl.fromJSONTokener((JSONTokener) object, jsonConfig);
+        } else if (object instanceof Reader) {
+            return Impl.fromReader((Reader) object, jsonConfig);
         } else if (object instanceof JSONString) {
             return Impl.fromJSONString((JSONString) object, jsonConfig);
         } else if (object instanceof Map) {
@@ -197,6 +209,23 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         }
     }
 
+    /**
+     * Creates a JSONObject from a character stream.<br>
+     * The stream is parsed incrementally through a {@link ReaderJSONTokener},
+     * it is never materialized as a String.
+     *
+     * @param reader the source of the JSON text
+     *
+     * @throws JSONException if the stream can not be converted to a proper
+     *                       JSONObject.
+     */
+    public static JSONObject fromObject(Reader reader, JsonConfig jsonConfig) {
+        if (reader == null) {
+            return fromObject((Object) null, jsonConfig);
+        }
+        return Impl.fromReader(reader, jsonConfig);
+    }
+
     public static Object toBean(JSONObject jsonObject) {
         if (jsonObject == null || jsonObject.isNullObject()) {
             return null;
@@ -650,8 +679,23 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         }
 
         public static JSONObject fromJSONTokener(JSONTokener tokener, JsonConfig jsonConfig) {
+            return fromJSONTokener(tokener, jsonConfig, new JSONObject());
+        }
+
+        /**
+         * Parses an object into an existing JSONObject, which is cleared first
+         * and returned. Reusing the same target for every message keeps its
+         * storage instead of allocating a new object each time. The target is
+         * left partially filled if the text is not valid.
+         */
+        public static JSONObject fromJSONTokener(JSONTokener tokener, JsonConfig jsonConfig, JSONObject target) {
+            if (jsonConfig.isStrictMode()) {
+                return fromJSONTokenerStrict(tokener, jsonConfig, target);
+            }
 
+            JSONProjection outer = tokener.getProjection();
             try {
+                tokener.enter(jsonConfig);
                 char c;
                 String key;
                 Object value;
@@ -659,7 +703,9 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
                 if (tokener.startsWith("null")) {
                     fireObjectStartEvent(jsonConfig);
                     fireObjectEndEvent(jsonConfig);
-                    return new JSONObject(true);
+                    target.clear();
+                    target.nullObject = true;
+                    return target;
                 }
 
                 if (tokener.nextClean() != '{') {
@@ -669,7 +715,11 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
 
                 Collection exclusions = jsonConfig.getMergedExcludes();
                 PropertyFilter jsonPropertyFilter = jsonConfig.getJsonPropertyFilter();
-                JSONObject jsonObject = new JSONObject();
+                JSONProjection projection = outer != null ? outer : jsonConfig.getProjection();
+                JSONObject jsonObject = target;
+                jsonObject.clear();
+                jsonObject.nullObject = false;
+                int members = 0;
                 for (; ; ) {
                     c = tokener.nextClean();
                     switch (c) {
@@ -682,11 +732,16 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
                         case '}':
                             fireObjectEndEvent(jsonConfig);
                             return jsonObject;
+                        case '"':
+                        case '\'':
+                            key = tokener.nextKey(c, jsonConfig);
+                            break;
                         default:
                             tokener.back();
                             key = tokener.nextValue(jsonConfig)
                                 .toString();
                     }
+                    tokener.checkMembers(++members);
 
             /*
              * The key is followed by ':'. We will also tolerate '=' or '=>'.
@@ -701,6 +756,30 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
                         throw tokener.syntaxError("Expected a ':' after a key");
                     }
 
+                    if (projection != null) {
+                        JSONProjection selected = projection.select(key);
+                        if (selected == null) {
+                            tokener.skipValue();
+                            switch (tokener.nextClean()) {
+                                case ';':
+                                case ',':
+                                    if (tokener.nextClean() == '}') {
+                                        fireObjectEndEvent(jsonConfig);
+                                        return jsonObject;
+                                    }
+                                    tokener.back();
+                                    break;
+                                case '}':
+                                    fireObjectEndEvent(jsonConfig);
+                                    return jsonObject;
+                                default:
+                                    throw tokener.syntaxError("Expected a ',' or '}'");
+                            }
+                            continue;
+                        }
+                        tokener.setProjection(selected);
+                    }
+
                     char peek = tokener.peek();
                     boolean quoted = peek == '"' || peek == '\'';
                     Object v = tokener.nextValue(jsonConfig);
@@ -797,6 +876,81 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             } catch (JSONException jsone) {
                 fireErrorEvent(jsone, jsonConfig);
                 throw jsone;
+            } finally {
+                tokener.setProjection(outer);
+                tokener.exit();
+            }
+        }
+
+        /**
+         * Parses an object following RFC 8259 only, see
+         * {@link JsonConfig#setStrictMode(boolean)}.
+         */
+        private static JSONObject fromJSONTokenerStrict(JSONTokener tokener, JsonConfig jsonConfig, JSONObject target) {
+            JSONProjection outer = tokener.getProjection();
+            try {
+                tokener.enter(jsonConfig);
+                if (tokener.nextCleanStrict() != '{') {
+                    throw tokener.syntaxError("A JSONObject text must begin with '{'");
+                }
+                fireObjectStartEvent(jsonConfig);
+
+                Collection exclusions = jsonConfig.getMergedExcludes();
+                PropertyFilter jsonPropertyFilter = jsonConfig.getJsonPropertyFilter();
+                JSONProjection projection = outer != null ? outer : jsonConfig.getProjection();
+                JSONObject jsonObject = target;
+                jsonObject.clear();
+                jsonObject.nullObject = false;
+                int members = 0;
+                char c = tokener.nextCleanStrict();
+                if (c == '}') {
+                    fireObjectEndEvent(jsonConfig);
+                    return jsonObject;
+                }
+                for (; ; ) {
+                    if (c != '"') {
+                        throw tokener.syntaxError(c == 0 ? "A JSONObject text must end with '}'" : "Expected a string key");
+                    }
+                    String key = tokener.nextKey('"', jsonConfig);
+                    tokener.checkMembers(++members);
+                    if (tokener.nextCleanStrict() != ':') {
+                        throw tokener.syntaxError("Expected a ':' after a key");
+                    }
+                    JSONProjection selected = projection != null ? projection.select(key) : null;
+                    if (projection != null && selected == null) {
+                        tokener.skipValue();
+                    } else {
+                        if (selected != null) {
+                            tokener.setProjection(selected);
+                        }
+                        Object v = tokener.nextValueStrict(jsonConfig);
+                        if (!exclusions.contains(key) &&
+                            (jsonPropertyFilter == null || !jsonPropertyFilter.apply(tokener, key, v))) {
+                            if (jsonObject.properties.containsKey(key)) {
+                                jsonObject.accumulate(key, v, jsonConfig);
+                                firePropertySetEvent(key, v, true, jsonConfig);
+                            } else {
+                                jsonObject.element(key, v, jsonConfig);
+                                firePropertySetEvent(key, v, false, jsonConfig);
+                            }
+                        }
+                    }
+                    c = tokener.nextCleanStrict();
+                    if (c == '}') {
+                        fireObjectEndEvent(jsonConfig);
+                        return jsonObject;
+                    }
+                    if (c != ',') {
+                        throw tokener.syntaxError("Expected a ',' or '}'");
+                    }
+                    c = tokener.nextCleanStrict();
+                }
+            } catch (JSONException jsone) {
+                fireErrorEvent(jsone, jsonConfig);
+                throw jsone;
+            } finally {
+                tokener.setProjection(outer);
+                tokener.exit();
             }
         }
 
@@ -887,13 +1041,22 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             return jsonObject;
         }
 
+        public static JSONObject fromReader(Reader reader, JsonConfig jsonConfig) {
+            return fromJSONTokener(new ReaderJSONTokener(reader), jsonConfig);
+        }
+
         public static JSONObject fromString(String str, JsonConfig jsonConfig) {
             if (str == null || "null".equals(str)) {
                 fireObjectStartEvent(jsonConfig);
                 fireObjectEndEvent(jsonConfig);
                 return new JSONObject(true);
             }
-            return fromJSONTokener(new JSONTokener(str), jsonConfig);
+            JSONTokener tokener = new JSONTokener(str);
+            JSONObject jsonObject = fromJSONTokener(tokener, jsonConfig);
+            if (jsonConfig.isStrictMode() && tokener.nextCleanStrict() != 0) {
+                throw tokener.syntaxError("Unexpected text after the JSONObject");
+            }
+            return jsonObject;
         }
 
         public static Object convertPropertyValueToArray(String key, Object value, Class targetType,
@@ -1065,6 +1228,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
 
         public static void setValue(JSONObject jsonObject, String key, Object value, Class type,
                                     JsonConfig jsonConfig, boolean bypass) {
+            jsonObject.changed();
             boolean accumulated = false;
             if (value == null) {
                 value = jsonConfig.findDefaultValueProcessor(type)
@@ -1496,6 +1660,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
     }
 
     public Object remove(Object key) {
+        changed();
         return properties.remove(key);
     }
 
@@ -1504,6 +1669,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
     }
 
     public void clear() {
+        changed();
         properties.clear();
     }
 
@@ -1512,11 +1678,13 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
     }
 
     public Collection values() {
+        resolveLazyValues();
         return Collections.unmodifiableCollection(properties.values());
     }
 
     public Set entrySet() {
-        return Collections.unmodifiableSet(properties.entrySet());
+        resolveLazyValues();
+        return new PropertyEntrySet();
     }
 
     public boolean containsValue(Object value, JsonConfig jsonConfig) {
@@ -1525,6 +1693,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         } catch (JSONException e) {
             return false;
         }
+        resolveLazyValues();
         return properties.containsValue(value);
     }
 
@@ -1536,6 +1705,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      * @return this.
      */
     public JSONObject discard(String key) {
+        changed();
         verifyIsNull();
         this.properties.remove(key);
         return this;
@@ -1768,7 +1938,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      */
     public Object get(String key) {
         verifyIsNull();
-        return this.properties.get(key);
+        return resolveLazyValue(key, this.properties.get(key));
     }
 
     /**
@@ -1932,6 +2102,10 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
     }
 
     public int hashCode() {
+        int cached = getCachedHashCode();
+        if (cached != 0) {
+            return cached;
+        }
         int hashcode = 19;
         if (isNullObject()) {
             return hashcode + JSONNull.getInstance()
@@ -1942,8 +2116,10 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             Map.Entry entry = (Map.Entry) entries.next();
             Object key = entry.getKey();
             Object value = entry.getValue();
+            cacheChild(value);
             hashcode += key.hashCode() + JSONUtils.hashCode(value);
         }
+        setCachedHashCode(hashcode);
         return hashcode;
     }
 
@@ -1979,8 +2155,17 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             if (!other.properties.containsKey(key)) {
                 return false;
             }
-            Object o1 = properties.get(key);
-            Object o2 = other.properties.get(key);
+            Object o1 = opt(key);
+            Object o2 = other.opt(key);
+
+            if (o1 != null && o2 != null && o1.getClass() == o2.getClass()) {
+                // values of the same type compare directly, the conversions below
+                // are only needed across types
+                if (!o1.equals(o2)) {
+                    return false;
+                }
+                continue;
+            }
 
             if (JSONNull.getInstance()
                 .equals(o1)) {
@@ -2070,6 +2255,10 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             return JSONNull.getInstance()
                 .toString();
         }
+        String cached = getCachedText();
+        if (cached != null) {
+            return cached;
+        }
         try {
             Iterator keys = keys();
             StringBuffer sb = new StringBuffer("{");
@@ -2081,10 +2270,14 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
                 Object o = keys.next();
                 sb.append(JSONUtils.quote(o.toString()));
                 sb.append(':');
-                sb.append(JSONUtils.valueToString(this.properties.get(o)));
+                Object value = this.properties.get(o);
+                cacheChild(value);
+                sb.append(JSONUtils.valueToString(value));
             }
             sb.append('}');
-            return sb.toString();
+            String text = sb.toString();
+            setCachedText(text);
+            return text;
         } catch (Exception e) {
             return null;
         }
@@ -2201,6 +2394,136 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         return sb.toString();
     }
 
+    /**
+     * Makes this object and every object and array it contains immutable,
+     * values parsed lazily are decoded first.
+     *
+     * @return this object.
+     */
+    public JSONObject freeze() {
+        if (!frozen) {
+            for (Iterator entries = properties.entrySet()
+                .iterator(); entries.hasNext(); ) {
+                Map.Entry entry = (Map.Entry) entries.next();
+                Object value = entry.getValue();
+                if (value instanceof LazyValue) {
+                    value = ((LazyValue) value).getValue();
+                    entry.setValue(value);
+                }
+                if (value instanceof JSON) {
+                    ((JSON) value).freeze();
+                }
+            }
+            properties = PersistentOrderedMap.of(properties);
+            frozen = true;
+        }
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns a frozen object with the properties of this frozen object and a
+     * property set like {@link #element(String, Object)} does, this object is
+     * left unchanged. Every other value is shared with this object.
+     *
+     * @param key   A key string.
+     * @param value An object which is the value, null removes the key.
+     *
+     * @return a frozen JSONObject.
+     *
+     * @throws JSONException If this object is not frozen.
+     */
+    public JSONObject with(String key, Object value) {
+        return with(key, value, new JsonConfig());
+    }
+
+    /**
+     * Returns a frozen object with the properties of this frozen object and a
+     * property set like {@link #element(String, Object, JsonConfig)} does,
+     * this object is left unchanged. Every other value is shared with this
+     * object, so only O(log n) of the property table is copied. A frozen value
+     * is shared as well, any other value is processed and frozen.
+     *
+     * @param key   A key string.
+     * @param value An object which is the value, null removes the key.
+     *
+     * @return a frozen JSONObject.
+     *
+     * @throws JSONException If this object is not frozen.
+     */
+    public JSONObject with(String key, Object value, JsonConfig jsonConfig) {
+        verifyIsFrozen();
+        verifyIsNull();
+        if (key == null) {
+            throw new JSONException("Null key.");
+        }
+        if (value == null) {
+            return without(key);
+        }
+        if (!(value instanceof JSON && ((JSON) value).isFrozen())) {
+            value = processValue(key, value, jsonConfig);
+            if (CycleDetectionStrategy.IGNORE_PROPERTY_OBJ == value
+                || CycleDetectionStrategy.IGNORE_PROPERTY_ARR == value) {
+                return this;
+            }
+            if (value instanceof JSON) {
+                ((JSON) value).freeze();
+            }
+        }
+        return frozenCopy(((PersistentOrderedMap) properties).with(key, value));
+    }
+
+    /**
+     * Returns a frozen object with the properties of this frozen object but
+     * one, this object is left unchanged. Every value is shared with this
+     * object.
+     *
+     * @param key A key string.
+     *
+     * @return a frozen JSONObject, this object if it has no such key.
+     *
+     * @throws JSONException If this object is not frozen.
+     */
+    public JSONObject without(String key) {
+        verifyIsFrozen();
+        PersistentOrderedMap map = ((PersistentOrderedMap) properties).without(key);
+        return map == properties ? this : frozenCopy(map);
+    }
+
+    private JSONObject frozenCopy(PersistentOrderedMap map) {
+        JSONObject copy = new JSONObject();
+        copy.properties = map;
+        copy.frozen = true;
+        return copy;
+    }
+
+    /**
+     * Returns a mutable copy of this object and of every object and array it
+     * contains, including those not parsed yet from a lazy tree. Unlike
+     * {@link #fromObject(Object)} the values are copied as they are, without
+     * going through a JsonConfig, any other value is immutable and shared with
+     * the copy. The copy is not frozen even if this object is, nor does it cache
+     * its serialization.
+     *
+     * @return a new JSONObject.
+     */
+    public JSONObject deepCopy() {
+        if (isNullObject()) {
+            return new JSONObject(true);
+        }
+        JSONObject copy = new JSONObject();
+        copy.properties = new CompactOrderedMap(properties.size());
+        for (Iterator entries = properties.entrySet()
+            .iterator(); entries.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) entries.next();
+            copy.properties.put(entry.getKey(), deepCopyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
     /**
      * Returs if this object is a null JSONObject.
      */
@@ -2261,7 +2584,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      */
     public Object opt(String key) {
         verifyIsNull();
-        return key == null ? null : this.properties.get(key);
+        return key == null ? null : resolveLazyValue(key, this.properties.get(key));
     }
 
     /**
@@ -2455,6 +2778,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
     }
 
     public void putAll(Map map, JsonConfig jsonConfig) {
+        changed();
         if (map instanceof JSONObject) {
             for (Iterator entries = map.entrySet()
                 .iterator(); entries.hasNext(); ) {
@@ -2483,6 +2807,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      * no value.
      */
     public Object remove(String key) {
+        changed();
         verifyIsNull();
         return this.properties.remove(key);
     }
@@ -2595,6 +2920,7 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
      *                       null.
      */
     private JSONObject _setInternal(String key, Object value, JsonConfig jsonConfig) {
+        changed();
         verifyIsNull();
         if (key == null) {
             throw new JSONException("Null key.");
@@ -2647,6 +2973,29 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         return _processValue(value, jsonConfig);
     }
 
+    /**
+     * Replaces a value parsed lazily by its decoded value.
+     */
+    private Object resolveLazyValue(Object key, Object value) {
+        if (value instanceof LazyValue) {
+            changed();
+            value = ((LazyValue) value).getValue();
+            this.properties.put(key, value);
+        }
+        return value;
+    }
+
+    private void resolveLazyValues() {
+        for (Iterator entries = properties.entrySet()
+            .iterator(); entries.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) entries.next();
+            if (entry.getValue() instanceof LazyValue) {
+                changed();
+                entry.setValue(((LazyValue) entry.getValue()).getValue());
+            }
+        }
+    }
+
     /**
      * Put a key/value pair in the JSONObject.
      *
@@ -2664,6 +3013,15 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
         return _setInternal(key, processValue(key, value, jsonConfig), jsonConfig);
     }
 
+    /**
+     * Checks if this object is frozen.
+     */
+    private void verifyIsFrozen() {
+        if (!frozen) {
+            throw new JSONException("JSONObject is not frozen.");
+        }
+    }
+
     /**
      * Checks if this object is a "null" object.
      */
@@ -2783,4 +3141,66 @@ public final class JSONObject extends AbstractJSON implements JSON, Map<String,
             strategy.setProperty(bean, name(), value, jsonConfig);
         }
     }
+
+    /**
+     * The entries of this object, they can not be added or removed but
+     * setValue() calls changed() before it replaces a value.
+     */
+    private class PropertyEntrySet extends AbstractSet {
+        public int size() {
+            return properties.size();
+        }
+
+        public boolean contains(Object o) {
+            return properties.entrySet()
+                .contains(o);
+        }
+
+        public Iterator iterator() {
+            final Iterator entries = properties.entrySet()
+                .iterator();
+            return new Iterator() {
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                public Object next() {
+                    return new PropertyEntry((Map.Entry) entries.next());
+                }
+            };
+        }
+    }
+
+    private class PropertyEntry implements Map.Entry {
+        private final Map.Entry entry;
+
+        PropertyEntry(Map.Entry entry) {
+            this.entry = entry;
+        }
+
+        public Object getKey() {
+            return entry.getKey();
+        }
+
+        public Object getValue() {
+            return entry.getValue();
+        }
+
+        public Object setValue(Object value) {
+            changed();
+            return entry.setValue(value);
+        }
+
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        public String toString() {
+            return entry.toString();
+        }
+    }
 }
\ No newline at end of file
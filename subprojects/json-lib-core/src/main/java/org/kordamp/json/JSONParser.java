@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import org.kordamp.json.util.JSONTokener;
+
+/**
+ * Parses a sequence of JSON messages reusing the same tokener, so its scratch
+ * buffers and canonical keys are allocated once instead of once per message.
+ * Messages can also be parsed into a JSONObject or JSONArray owned by the
+ * caller, which is cleared and refilled every time; steady state parsing then
+ * only allocates the values themselves.<br>
+ * A JSONParser is not thread safe, use one per thread.
+ */
+public class JSONParser {
+    private final JsonConfig jsonConfig;
+    private final JSONTokener tokener = new JSONTokener("");
+
+    public JSONParser() {
+        this(new JsonConfig());
+    }
+
+    public JSONParser(JsonConfig jsonConfig) {
+        if (jsonConfig == null) {
+            throw new JSONException("jsonConfig is null");
+        }
+        this.jsonConfig = jsonConfig;
+    }
+
+    public JsonConfig getJsonConfig() {
+        return jsonConfig;
+    }
+
+    /**
+     * Creates a JSONObject, JSONArray or a JSONNull from a JSON text.
+     *
+     * @throws JSONException if the text is not a valid JSON value
+     */
+    public JSON parse(CharSequence text) {
+        return JSONSerializer.toJSON(tokener.reset(text), jsonConfig);
+    }
+
+    /**
+     * Parses a JSON object text into target, which is cleared first.
+     *
+     * @return target
+     *
+     * @throws JSONException if the text is not a valid JSON object, target is
+     *                       then left partially filled
+     */
+    public JSONObject parse(CharSequence text, JSONObject target) {
+        JSONObject.Impl.fromJSONTokener(tokener.reset(text), jsonConfig, target);
+        checkEnd();
+        return target;
+    }
+
+    /**
+     * Parses a JSON array text into target, which is cleared first.
+     *
+     * @return target
+     *
+     * @throws JSONException if the text is not a valid JSON array, target is
+     *                       then left partially filled
+     */
+    public JSONArray parse(CharSequence text, JSONArray target) {
+        JSONArray.Impl.fromJSONTokener(tokener.reset(text), jsonConfig, target);
+        checkEnd();
+        return target;
+    }
+
+    private void checkEnd() {
+        if (jsonConfig.isStrictMode() && tokener.nextCleanStrict() != 0) {
+            throw tokener.syntaxError("Unexpected text after the JSON value");
+        }
+    }
+}
@@ -19,6 +19,14 @@ package org.kordamp.json;
 
 import org.kordamp.json.util.JSONTokener;
 import org.kordamp.json.util.JSONUtils;
+import org.kordamp.json.util.MappedJSONTokener;
+import org.kordamp.json.util.ReaderJSONTokener;
+import org.kordamp.json.util.Utf8JSONTokener;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Consumer;
 
 /**
  * Transforms java objects into JSON and back.<br>
@@ -106,6 +114,10 @@ public class JSONSerializer {
             json = toJSON((JSONString) object, jsonConfig);
         } else if (object instanceof String) {
             json = toJSON((String) object, jsonConfig);
+        } else if (object instanceof Reader) {
+            json = toJSON((Reader) object, jsonConfig);
+        } else if (object instanceof ByteBuffer) {
+            json = toJSON((ByteBuffer) object, jsonConfig);
         } else if (JSONUtils.isArray(object)) {
             json = JSONArray.fromObject(object, jsonConfig);
         } else {
@@ -122,6 +134,175 @@ public class JSONSerializer {
         return json;
     }
 
+    /**
+     * Creates a frozen JSONObject, JSONArray or JSONNull from object, see
+     * {@link JSON#freeze()}. A frozen JSON value is returned as is, any other
+     * value is converted like {@link #toJSON(Object)} does.
+     *
+     * @param object any java Object
+     *
+     * @throws JSONException if the object can not be converted
+     */
+    public static JSON toImmutableJSON(Object object) {
+        return toImmutableJSON(object, new JsonConfig());
+    }
+
+    /**
+     * Creates a frozen JSONObject, JSONArray or JSONNull from object, see
+     * {@link JSON#freeze()}. A frozen JSON value is returned as is, any other
+     * value is converted like {@link #toJSON(Object, JsonConfig)} does.
+     *
+     * @param object     any java Object
+     * @param jsonConfig additional configuration
+     *
+     * @throws JSONException if the object can not be converted
+     */
+    public static JSON toImmutableJSON(Object object, JsonConfig jsonConfig) {
+        if (object instanceof JSON && ((JSON) object).isFrozen()) {
+            return (JSON) object;
+        }
+        return toJSON(object, jsonConfig).freeze();
+    }
+
+    /**
+     * Creates a JSONObject, JSONArray or a JSONNull from a character stream.<br>
+     * The stream is parsed incrementally, it is never materialized as a String.
+     *
+     * @param reader     the source of the JSON text
+     * @param jsonConfig additional configuration
+     *
+     * @throws JSONException if the stream does not contain a valid JSON value
+     */
+    public static JSON toJSON(Reader reader, JsonConfig jsonConfig) {
+        if (reader == null) {
+            return JSONNull.getInstance();
+        }
+        return toJSON(new ReaderJSONTokener(reader), jsonConfig);
+    }
+
+    /**
+     * Creates a JSONObject, JSONArray or a JSONNull from UTF-8 encoded bytes.<br>
+     * The bytes are scanned directly, only string literals are decoded. The
+     * buffer itself is not modified.
+     *
+     * @param bytes      the UTF-8 encoded JSON text
+     * @param jsonConfig additional configuration
+     *
+     * @throws JSONException if the bytes do not contain a valid JSON value
+     */
+    public static JSON toJSON(ByteBuffer bytes, JsonConfig jsonConfig) {
+        if (bytes == null) {
+            return JSONNull.getInstance();
+        }
+        return toJSON(new Utf8JSONTokener(bytes), jsonConfig);
+    }
+
+    /**
+     * Creates a JSONObject, JSONArray or a JSONNull from an UTF-8 encoded file.<br>
+     * The file is memory-mapped (in chunks if it is larger than 2 GB) and
+     * parsed from the mapping, its contents are never copied to the heap.
+     *
+     * @param path       the file holding the JSON text
+     * @param jsonConfig additional configuration
+     *
+     * @throws JSONException if the file can not be read or does not contain a
+     *                       valid JSON value
+     */
+    public static JSON toJSON(Path path, JsonConfig jsonConfig) {
+        if (path == null) {
+            return JSONNull.getInstance();
+        }
+        try (MappedJSONTokener tokener = new MappedJSONTokener(path)) {
+            return toJSON(tokener, jsonConfig);
+        }
+    }
+
+    /**
+     * Creates a JSONObject, JSONArray or a JSONNull from the next value of a
+     * tokener, choosing the type by looking at its first character.
+     *
+     * @throws JSONException if the tokener is not positioned on a JSON value
+     */
+    static JSON toJSON(JSONTokener tokener, JsonConfig jsonConfig) {
+        boolean strict = jsonConfig.isStrictMode();
+        JSON json = nextJSON(tokener, jsonConfig);
+        if (strict && tokener.nextCleanStrict() != 0) {
+            throw tokener.syntaxError("Unexpected text after the JSON value");
+        }
+        return json;
+    }
+
+    /**
+     * Parses every JSON value of a character stream, handing each one to the
+     * callback as soon as it is complete. The values may follow each other
+     * without separators (<code>{..}{..}[..]</code>) or be separated by
+     * whitespace. The stream is not closed.
+     *
+     * @param reader     the source of the JSON values
+     * @param jsonConfig additional configuration
+     * @param callback   receives each JSONObject, JSONArray or JSONNull in order
+     *
+     * @return the number of values parsed
+     *
+     * @throws JSONException if a value is not valid, values parsed before it
+     *                       have already been handed to the callback
+     */
+    public static long toJSON(Reader reader, JsonConfig jsonConfig, Consumer<? super JSON> callback) {
+        return toJSON(new ReaderJSONTokener(reader), jsonConfig, callback);
+    }
+
+    /**
+     * Parses every JSON value left in a tokener, see
+     * {@link #toJSON(Reader, JsonConfig, Consumer)}.
+     *
+     * @param tokener    the source of the JSON values
+     * @param jsonConfig additional configuration
+     * @param callback   receives each JSONObject, JSONArray or JSONNull in order
+     *
+     * @return the number of values parsed
+     *
+     * @throws JSONException if a value is not valid
+     */
+    public static long toJSON(JSONTokener tokener, JsonConfig jsonConfig, Consumer<? super JSON> callback) {
+        boolean strict = jsonConfig.isStrictMode();
+        long count = 0;
+        while ((strict ? tokener.nextCleanStrict() : tokener.nextClean()) != 0) {
+            tokener.back();
+            callback.accept(nextJSON(tokener, jsonConfig));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Parses the next JSON value of a tokener, choosing the type by looking at
+     * its first character. The tokener is left right after the value.
+     *
+     * @throws JSONException if the tokener is not positioned on a JSON value
+     */
+    private static JSON nextJSON(JSONTokener tokener, JsonConfig jsonConfig) {
+        boolean strict = jsonConfig.isStrictMode();
+        char c = strict ? tokener.nextCleanStrict() : tokener.nextClean();
+        tokener.back();
+        JSON json;
+        switch (c) {
+            case '[':
+                json = JSONArray.Impl.fromJSONTokener(tokener, jsonConfig);
+                break;
+            case '{':
+                json = JSONObject.Impl.fromJSONTokener(tokener, jsonConfig);
+                break;
+            default:
+                if (tokener.startsWith("null")) {
+                    tokener.skipPast("null");
+                    json = JSONNull.getInstance();
+                    break;
+                }
+                throw tokener.syntaxError("Invalid JSON String");
+        }
+        return json;
+    }
+
     /**
      * Creates a JSONObject, JSONArray or a JSONNull from a JSONString.
      *
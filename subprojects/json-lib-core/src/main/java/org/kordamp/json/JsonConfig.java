@@ -29,6 +29,7 @@ import org.kordamp.json.processors.JsonValueProcessorMatcher;
 import org.kordamp.json.processors.PropertyNameProcessor;
 import org.kordamp.json.processors.PropertyNameProcessorMatcher;
 import org.kordamp.json.util.CycleDetectionStrategy;
+import org.kordamp.json.util.JSONProjection;
 import org.kordamp.json.util.JavaIdentifierTransformer;
 import org.kordamp.json.util.JsonEventListener;
 import org.kordamp.json.util.NewBeanInstanceStrategy;
@@ -75,6 +76,7 @@ public class JsonConfig {
     private MultiKeyMap beanKeyMap = new MultiKeyMap();
     private Map beanProcessorMap = new HashMap();
     private MultiKeyMap beanTypeMap = new MultiKeyMap();
+    private boolean canonicalizeKeys;
     /**
      * Map of attribute/class
      */
@@ -105,7 +107,16 @@ public class JsonConfig {
     private PropertyNameProcessorMatcher jsonPropertyNameProcessorMatcher = DEFAULT_PROPERTY_NAME_PROCESSOR_MATCHER;
     private JsonValueProcessorMatcher jsonValueProcessorMatcher = DEFAULT_JSON_VALUE_PROCESSOR_MATCHER;
     private Map keyMap = new HashMap();
+    private int maxDepth;
+    private int maxLength;
+    private int maxMembers;
+    private int maxNumberLength;
+    private int maxStringLength;
+    private boolean lazyTree;
+    private boolean lazyValues;
     private NewBeanInstanceStrategy newBeanInstanceStrategy = DEFAULT_NEW_BEAN_INSTANCE_STRATEGY;
+    private boolean parallelParsing;
+    private JSONProjection projection;
     private PropertyExclusionClassMatcher propertyExclusionClassMatcher = DEFAULT_PROPERTY_EXCLUSION_CLASS_MATCHER;
     private PropertySetStrategy propertySetStrategy;
     /**
@@ -113,6 +124,7 @@ public class JsonConfig {
      */
     private Class rootClass;
     private boolean skipJavaIdentifierTransformationInMapKeys;
+    private boolean strictMode;
     private boolean triggerEvents;
     private Map typeMap = new HashMap();
     private List ignoreFieldAnnotations = new ArrayList();
@@ -217,6 +229,16 @@ public class JsonConfig {
         if (classMap != null) {
             jsc.classMap.putAll(classMap);
         }
+        jsc.canonicalizeKeys = canonicalizeKeys;
+        jsc.lazyTree = lazyTree;
+        jsc.lazyValues = lazyValues;
+        jsc.parallelParsing = parallelParsing;
+        jsc.projection = projection;
+        jsc.maxDepth = maxDepth;
+        jsc.maxLength = maxLength;
+        jsc.maxMembers = maxMembers;
+        jsc.maxNumberLength = maxNumberLength;
+        jsc.maxStringLength = maxStringLength;
         jsc.cycleDetectionStrategy = cycleDetectionStrategy;
         if (eventListeners != null) {
             jsc.eventListeners.addAll(eventListeners);
@@ -236,6 +258,7 @@ public class JsonConfig {
         jsc.beanProcessorMap.putAll(beanProcessorMap);
         jsc.rootClass = rootClass;
         jsc.skipJavaIdentifierTransformationInMapKeys = skipJavaIdentifierTransformationInMapKeys;
+        jsc.strictMode = strictMode;
         jsc.triggerEvents = triggerEvents;
         jsc.typeMap.putAll(typeMap);
         jsc.jsonPropertyFilter = jsonPropertyFilter;
@@ -765,6 +788,109 @@ public class JsonConfig {
             : jsonValueProcessorMatcher;
     }
 
+    /**
+     * Returns the maximum nesting depth of objects and arrays when parsing,
+     * 0 if not limited.<br>
+     * Default value is 0<br>
+     * [JSON -&gt; Java]
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximum nesting depth of objects and arrays when parsing, the
+     * outermost object or array being at depth 1.
+     * A {@link JSONLimitException} is thrown as soon as the limit is exceeded,
+     * 0 removes the limit.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximum length of the parsed input, 0 if not limited.<br>
+     * Default value is 0<br>
+     * [JSON -&gt; Java]
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Sets the maximum length of the parsed input, in chars (bytes for UTF-8
+     * sources). The whole input is checked up front when it is held in memory,
+     * streams are checked at each object, array and member.
+     * A {@link JSONLimitException} is thrown as soon as the limit is exceeded,
+     * 0 removes the limit.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setMaxLength(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the maximum number of members of a parsed object or array, 0 if
+     * not limited.<br>
+     * Default value is 0<br>
+     * [JSON -&gt; Java]
+     */
+    public int getMaxMembers() {
+        return maxMembers;
+    }
+
+    /**
+     * Sets the maximum number of members of each parsed object, or of elements
+     * of each parsed array, counted as they are read.
+     * A {@link JSONLimitException} is thrown as soon as the limit is exceeded,
+     * 0 removes the limit.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setMaxMembers(int maxMembers) {
+        this.maxMembers = maxMembers;
+    }
+
+    /**
+     * Returns the maximum length of a parsed number, 0 if not limited.<br>
+     * Default value is 0<br>
+     * [JSON -&gt; Java]
+     */
+    public int getMaxNumberLength() {
+        return maxNumberLength;
+    }
+
+    /**
+     * Sets the maximum length of a parsed number, in chars, checked as the
+     * number is scanned.
+     * A {@link JSONLimitException} is thrown as soon as the limit is exceeded,
+     * 0 removes the limit.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setMaxNumberLength(int maxNumberLength) {
+        this.maxNumberLength = maxNumberLength;
+    }
+
+    /**
+     * Returns the maximum length of a parsed string, 0 if not limited.<br>
+     * Default value is 0<br>
+     * [JSON -&gt; Java]
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * Sets the maximum length of a parsed string, key or unquoted text, in chars,
+     * checked as the string is scanned.
+     * A {@link JSONLimitException} is thrown as soon as the limit is exceeded,
+     * 0 removes the limit.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setMaxStringLength(int maxStringLength) {
+        this.maxStringLength = maxStringLength;
+    }
+
     /**
      * Returns a set of default excludes with user-defined excludes.<br>
      * [Java -&gt; JSON]
@@ -931,6 +1057,27 @@ public class JsonConfig {
         this.allowNonStringKeys = allowNonStringKeys;
     }
 
+    /**
+     * Returns true if parsed keys are canonicalized.<br>
+     * Default value is false<br>
+     * [JSON -&gt; Java]
+     */
+    public boolean isCanonicalizeKeys() {
+        return canonicalizeKeys;
+    }
+
+    /**
+     * Sets if parsed keys should be canonicalized, that is, if all the
+     * occurrences of a key within a parse should share the same String
+     * instance. This reduces allocations and the retained size of trees with
+     * many objects of the same shape. The number of distinct keys shared per
+     * parse is bounded.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setCanonicalizeKeys(boolean canonicalizeKeys) {
+        this.canonicalizeKeys = canonicalizeKeys;
+    }
+
     /**
      * Returns true if event triggering is enabled during building.<br>
      * Default value is false<br>
@@ -1069,6 +1216,103 @@ public class JsonConfig {
         this.javascriptCompliant = javascriptCompliant;
     }
 
+    /**
+     * Returns true if nested objects and arrays are parsed lazily.<br>
+     * Default value is false<br>
+     * [JSON -&gt; Java]
+     */
+    public boolean isLazyTree() {
+        return lazyTree;
+    }
+
+    /**
+     * Sets if nested objects and arrays should be parsed lazily. When enabled,
+     * parsing a String source only skims over the objects and arrays nested in
+     * the value being parsed, recording where they start and end (see
+     * {@link org.kordamp.json.util.LazyJSON}). Each of them is parsed the
+     * first time it is read through <code>get</code>/<code>opt</code>, with
+     * its own nested values skimmed in turn, and written back by copying the
+     * original text when it has not been read. Events, exclusions and syntax
+     * errors of a nested value happen when it is parsed. Values using lenient
+     * syntax, and every value when parsing limits such as
+     * {@link #setMaxDepth(int)} are set, are always parsed eagerly.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setLazyTree(boolean lazyTree) {
+        this.lazyTree = lazyTree;
+    }
+
+    /**
+     * Returns true if parsed strings and numbers are decoded lazily.<br>
+     * Default value is false<br>
+     * [JSON -&gt; Java]
+     */
+    public boolean isLazyValues() {
+        return lazyValues;
+    }
+
+    /**
+     * Sets if parsed strings and numbers should be decoded lazily. When
+     * enabled, parsing a String source keeps numbers and strings without
+     * escapes as slices of the source (see {@link org.kordamp.json.util.LazyValue}).
+     * They are decoded the first time they are read through
+     * <code>get</code>/<code>opt</code> and written back by copying the
+     * original characters. JsonValueProcessors registered by type and
+     * property filters see the undecoded values.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setLazyValues(boolean lazyValues) {
+        this.lazyValues = lazyValues;
+    }
+
+    /**
+     * Returns the projection applied when parsing, null if every value is
+     * built.<br>
+     * Default value is null<br>
+     * [JSON -&gt; Java]
+     */
+    public JSONProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Sets the projection applied when parsing, for example
+     * <code>JSONProjection.compile("/items/*&#47;id", "/meta")</code>. Members
+     * and elements that are neither selected nor contain a selected value are
+     * skipped over at the character level, they are never built, validated or
+     * reported through events. Indexes in selectors refer to the positions in
+     * the source, skipped elements are not kept as placeholders. The projection
+     * applies to the root of each value parsed from a tokener or a String.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setProjection(JSONProjection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * Returns true if large top-level arrays are parsed in parallel.<br>
+     * Default value is false<br>
+     * [JSON -&gt; Java]
+     */
+    public boolean isParallelParsing() {
+        return parallelParsing;
+    }
+
+    /**
+     * Sets if large top-level arrays should be parsed in parallel. When enabled,
+     * parsing a String source of at least
+     * {@link JSONArray.Impl#PARALLEL_PARSING_THRESHOLD} chars finds the
+     * boundaries of the top-level elements first, then parses groups of them on
+     * the common <code>ForkJoinPool</code> and assembles the JSONArray in the
+     * original order. Sources using lenient syntax at any depth, configurations
+     * with event triggering enabled and configurations with a projection are
+     * always parsed sequentially, so events are never delivered out of order.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
     /**
      * Returns true if map keys will not be transformed.<br>
      * Default value is false.<br>
@@ -1086,6 +1330,27 @@ public class JsonConfig {
         this.skipJavaIdentifierTransformationInMapKeys = skipJavaIdentifierTransformationInMapKeys;
     }
 
+    /**
+     * Returns true if JSON text is parsed following RFC 8259 only.<br>
+     * Default value is false.<br>
+     * [JSON -&gt; Java]
+     */
+    public boolean isStrictMode() {
+        return strictMode;
+    }
+
+    /**
+     * Sets if JSON text should be parsed following RFC 8259 only.<br>
+     * Strict parsing skips the lenient extensions (comments, single quotes,
+     * unquoted keys and strings, '=' and ';' separators, functions, octal and
+     * hexadecimal numbers) and rejects them as syntax errors, which makes it
+     * faster on machine generated JSON.<br>
+     * [JSON -&gt; Java]
+     */
+    public void setStrictMode(boolean strictMode) {
+        this.strictMode = strictMode;
+    }
+
     /**
      * Registers a DefaultValueProcessor.<br>
      * [Java -&gt; JSON]
@@ -1264,6 +1529,16 @@ public class JsonConfig {
      */
     public void reset() {
         excludes = EMPTY_EXCLUDES;
+        canonicalizeKeys = false;
+        lazyTree = false;
+        lazyValues = false;
+        parallelParsing = false;
+        projection = null;
+        maxDepth = 0;
+        maxLength = 0;
+        maxMembers = 0;
+        maxNumberLength = 0;
+        maxStringLength = 0;
         ignoreDefaultExcludes = false;
         ignoreTransientFields = false;
         ignorePublicFields = true;
@@ -1271,6 +1546,7 @@ public class JsonConfig {
         javaIdentifierTransformer = DEFAULT_JAVA_IDENTIFIER_TRANSFORMER;
         cycleDetectionStrategy = DEFAULT_CYCLE_DETECTION_STRATEGY;
         skipJavaIdentifierTransformationInMapKeys = false;
+        strictMode = false;
         triggerEvents = false;
         handleJettisonEmptyElement = false;
         handleJettisonSingleElementArray = false;
@@ -0,0 +1,482 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An insertion ordered map of String keys used to hold the properties of a
+ * JSONObject.<br>
+ * Entries are kept in parallel arrays of keys, values and hashes in insertion
+ * order. Small maps, the vast majority of JSON objects, are searched with a
+ * linear scan over the hashes; once a map holds more than
+ * {@link #MAX_FLAT_CAPACITY} entries an open addressing table of entry
+ * indexes gives constant time lookups. Removing a key leaves a hole in the
+ * arrays that is compacted when they fill up, so removals are constant time
+ * too and iterating walks the arrays without following any pointer. Null keys
+ * are not supported, null values are.<br>
+ * A CompactOrderedMap is not thread safe.
+ */
+public class CompactOrderedMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = -3581236514788318754L;
+    /**
+     * Largest capacity of a map searched without a hash table.
+     */
+    public static final int MAX_FLAT_CAPACITY = 8;
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int[] EMPTY_HASHES = new int[0];
+
+    /**
+     * Entries in insertion order, a null key marks a removed entry.
+     */
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    /**
+     * Open addressing table holding the index of an entry plus one, 0 for an
+     * empty slot. Twice as long as the entry arrays, null while they are not
+     * longer than MAX_FLAT_CAPACITY.
+     */
+    private int[] table;
+    /**
+     * Number of entries used in the arrays, removed ones included.
+     */
+    private int count;
+    private int size;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+    private transient Set<String> keySet;
+    private transient Collection<Object> valuesCollection;
+
+    /**
+     * Creates an empty map, its arrays are allocated by the first put.
+     */
+    public CompactOrderedMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a map that holds capacity entries before growing.
+     */
+    public CompactOrderedMap(int capacity) {
+        if (capacity > 0) {
+            allocate(Math.max(Integer.highestOneBit(capacity * 2 - 1), 2));
+        } else {
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+            hashes = EMPTY_HASHES;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != null && (value == null ? values[i] == null : value.equals(values[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    public Object put(String key, Object value) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (count == keys.length) {
+            grow();
+        }
+        keys[count] = key;
+        values[count] = value;
+        hashes[count] = hash;
+        count++;
+        if (table != null) {
+            index(count - 1);
+        }
+        size++;
+        modCount++;
+        return null;
+    }
+
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    /**
+     * Removes every entry, keeping the allocated arrays.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, count, null);
+        Arrays.fill(values, 0, count, null);
+        if (table != null) {
+            Arrays.fill(table, 0);
+        }
+        count = 0;
+        size = 0;
+        modCount++;
+    }
+
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    public Collection<Object> values() {
+        if (valuesCollection == null) {
+            valuesCollection = new Values();
+        }
+        return valuesCollection;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String ? indexOf(key, hash(key)) : -1;
+    }
+
+    private int indexOf(Object key, int hash) {
+        if (table == null) {
+            for (int index = 0; index < count; index++) {
+                if (hashes[index] == hash && key.equals(keys[index])) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (index < 0) {
+                return -1;
+            }
+            if (hashes[index] == hash && key.equals(keys[index])) {
+                return index;
+            }
+        }
+    }
+
+    private void removeAt(int index) {
+        keys[index] = null;
+        values[index] = null;
+        modCount++;
+        if (--size == 0) {
+            // nothing left to keep in order, start over
+            Arrays.fill(keys, 0, count, null);
+            if (table != null) {
+                Arrays.fill(table, 0);
+            }
+            count = 0;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = capacity > MAX_FLAT_CAPACITY ? new int[capacity * 2] : null;
+    }
+
+    private void grow() {
+        if (keys.length == 0) {
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            // compact in place when at least half of the entries were removed
+            rebuild(size * 2 > count ? keys.length * 2 : keys.length);
+        }
+    }
+
+    /**
+     * Adds an entry to the hash table.
+     */
+    private void index(int index) {
+        int mask = table.length - 1;
+        int slot = hashes[index] & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * Moves the live entries to the front of arrays of the given capacity,
+     * keeping their order, and indexes them again.
+     */
+    private void rebuild(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldCount = count;
+        if (capacity != keys.length) {
+            allocate(capacity);
+        } else if (table != null) {
+            Arrays.fill(table, 0);
+        }
+        int n = 0;
+        for (int i = 0; i < oldCount; i++) {
+            String key = oldKeys[i];
+            if (key == null) {
+                continue;
+            }
+            keys[n] = key;
+            values[n] = oldValues[i];
+            hashes[n] = oldHashes[i];
+            if (table != null) {
+                index(n);
+            }
+            n++;
+        }
+        Arrays.fill(keys, n, oldCount, null);
+        Arrays.fill(values, n, oldCount, null);
+        count = n;
+        modCount++;
+    }
+
+    private abstract class EntryIterator<T> implements Iterator<T> {
+        private int next = advance(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return last;
+        }
+
+        private int advance(int index) {
+            while (index < count && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+        private final String key;
+        private int index;
+
+        Entry(int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return index() >= 0 ? values[index] : null;
+        }
+
+        public Object setValue(Object value) {
+            if (index() < 0) {
+                throw new IllegalStateException("Entry was removed: " + key);
+            }
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry other = (Map.Entry) obj;
+            Object value = getValue();
+            return key.equals(other.getKey()) &&
+                (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        public String toString() {
+            return key + "=" + getValue();
+        }
+
+        /**
+         * Finds the entry again if the arrays were compacted since it was
+         * created.
+         */
+        private int index() {
+            if (index < 0 || index >= count || keys[index] != key) {
+                index = indexOf(key);
+            }
+            return index;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator<Map.Entry<String, Object>>() {
+                public Map.Entry<String, Object> next() {
+                    return new Entry(nextIndex());
+                }
+            };
+        }
+
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry entry = (Map.Entry) o;
+            int index = indexOf(entry.getKey());
+            if (index < 0) {
+                return false;
+            }
+            Object value = values[index];
+            return value == null ? entry.getValue() == null : value.equals(entry.getValue());
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+        public Iterator<String> iterator() {
+            return new EntryIterator<String>() {
+                public String next() {
+                    return keys[nextIndex()];
+                }
+            };
+        }
+
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        public boolean remove(Object o) {
+            int index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<Object> {
+        public Iterator<Object> iterator() {
+            return new EntryIterator<Object>() {
+                public Object next() {
+                    return values[nextIndex()];
+                }
+            };
+        }
+
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+}
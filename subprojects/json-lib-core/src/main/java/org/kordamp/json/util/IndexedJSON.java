@@ -0,0 +1,444 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A read-only view of a JSON object or array navigated through a structural
+ * index of its text.<br>
+ * Building the index takes a single pass over the text that records the
+ * position of every bracket, colon, comma and string opening quote, and links
+ * each opening bracket to its closing one. Lookups walk the index, jumping
+ * over nested objects and arrays in one step, and only decode the values
+ * they return. Nested objects and arrays are returned as views sharing the
+ * same index; no JSONObject or JSONArray is built unless {@link #toJSON()} is
+ * called.<br>
+ * The text must follow RFC 8259. Its structure is checked when the index is
+ * built, scalar values are checked when they are read. Lookups by key return
+ * the first member with that key.
+ */
+public final class IndexedJSON implements JSON {
+    private static final long serialVersionUID = -6125817542264391640L;
+    private static final JsonConfig STRICT_CONFIG = new JsonConfig();
+
+    static {
+        STRICT_CONFIG.setStrictMode(true);
+    }
+
+    private final String source;
+    /**
+     * Positions of the structural characters in the source.
+     */
+    private final int[] positions;
+    /**
+     * For each opening bracket, the index entry of its closing bracket.
+     */
+    private final int[] links;
+    /**
+     * Index entry of the opening bracket of this view.
+     */
+    private final int entry;
+
+    private IndexedJSON(String source, int[] positions, int[] links, int entry) {
+        this.source = source;
+        this.positions = positions;
+        this.links = links;
+        this.entry = entry;
+    }
+
+    /**
+     * Indexes a JSON text whose value is an object or an array.
+     *
+     * @throws JSONException if the structure of the text is not valid
+     */
+    public static IndexedJSON fromString(String text) {
+        int length = text.length();
+        int[] positions = new int[Math.max(16, length / 8)];
+        int[] links = new int[positions.length];
+        int[] stack = new int[16];
+        int depth = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    continue;
+                case '{':
+                case '[':
+                    if (depth == 0 && count > 0) {
+                        throw syntaxError("Unexpected text after the JSON value", i);
+                    }
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = count;
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0 || text.charAt(positions[stack[depth - 1]]) != (c == '}' ? '{' : '[')) {
+                        throw syntaxError("Unbalanced '" + c + "'", i);
+                    }
+                    links[stack[--depth]] = count;
+                    break;
+                default:
+                    if (depth == 0) {
+                        throw syntaxError(count == 0 ? "A JSON text must begin with '{' or '['"
+                            : "Unexpected text after the JSON value", i);
+                    }
+                    if (c != '"' && c != ':' && c != ',') {
+                        // part of a scalar, found through its neighbours
+                        continue;
+                    }
+            }
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                links = Arrays.copyOf(links, count * 2);
+            }
+            positions[count++] = i;
+            if (c == '"') {
+                int start = i;
+                for (i++; i < length && text.charAt(i) != '"'; i++) {
+                    if (text.charAt(i) == '\\') {
+                        i++;
+                    }
+                }
+                if (i >= length) {
+                    throw syntaxError("Unterminated string", start);
+                }
+            }
+        }
+        if (depth > 0 || count == 0) {
+            throw syntaxError(count == 0 ? "A JSON text must begin with '{' or '['" : "Unbalanced '"
+                + text.charAt(positions[stack[depth - 1]]) + "'", length);
+        }
+        return new IndexedJSON(text, positions, links, 0);
+    }
+
+    public boolean isArray() {
+        return source.charAt(positions[entry]) == '[';
+    }
+
+    public boolean isEmpty() {
+        return links[entry] == entry + 1 && valueStart(entry) == positions[entry + 1];
+    }
+
+    public int size() {
+        int size = 0;
+        for (int e = first(); e >= 0; e = following(e)) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns true if this object has a member with the given key.
+     */
+    public boolean has(String key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value of the first member with the given key, or null if
+     * there is none. Objects and arrays are returned as IndexedJSON views,
+     * other values as a String, a Number, a Boolean or JSONNull.
+     *
+     * @throws JSONException if this view is not an object
+     */
+    public Object get(String key) {
+        int e = find(key);
+        return e >= 0 ? valueAfter(e + 1) : null;
+    }
+
+    /**
+     * Returns the value at the given index, or null if there is none. Objects
+     * and arrays are returned as IndexedJSON views, other values as a String,
+     * a Number, a Boolean or JSONNull.
+     *
+     * @throws JSONException if this view is not an array
+     */
+    public Object get(int index) {
+        if (!isArray()) {
+            throw new JSONException("Not a JSONArray.");
+        }
+        for (int e = first(); e >= 0; e = following(e)) {
+            if (index-- == 0) {
+                return valueAfter(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value a JSON Pointer (RFC 6901) refers to, or null if there
+     * is none, e.g. <code>/items/0/id</code>.
+     */
+    public Object getPath(String pointer) {
+        if (pointer.length() == 0) {
+            return this;
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new JSONException("A JSON Pointer must begin with '/'.");
+        }
+        Object current = this;
+        for (int start = 1; ; ) {
+            int end = pointer.indexOf('/', start);
+            String token = pointer.substring(start, end < 0 ? pointer.length() : end);
+            if (!(current instanceof IndexedJSON)) {
+                return null;
+            }
+            IndexedJSON json = (IndexedJSON) current;
+            if (json.isArray()) {
+                int index = parseIndex(token);
+                current = index < 0 ? null : json.get(index);
+            } else {
+                current = json.get(token.replace("~1", "/")
+                    .replace("~0", "~"));
+            }
+            if (end < 0 || current == null) {
+                return current;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Returns the keys of this object in the order they appear.
+     *
+     * @throws JSONException if this view is not an object
+     */
+    public Iterator keys() {
+        if (isArray()) {
+            throw new JSONException("Not a JSONObject.");
+        }
+        List keys = new ArrayList();
+        for (int e = first(); e >= 0; e = following(e)) {
+            keys.add(key(e));
+        }
+        return keys.iterator();
+    }
+
+    /**
+     * Parses this view into a JSONObject or a JSONArray.
+     */
+    public JSON toJSON() {
+        return toJSON(new JsonConfig());
+    }
+
+    /**
+     * Parses this view into a JSONObject or a JSONArray.
+     */
+    public JSON toJSON(JsonConfig jsonConfig) {
+        JSONTokener tokener = new JSONTokener(source, positions[entry]);
+        if (isArray()) {
+            return JSONArray.fromObject(tokener, jsonConfig);
+        }
+        return JSONObject.fromObject(tokener, jsonConfig);
+    }
+
+    public String toString() {
+        return source.substring(positions[entry], positions[links[entry]] + 1);
+    }
+
+    public String toString(int indentFactor) {
+        return toJSON().toString(indentFactor);
+    }
+
+    public String toString(int indentFactor, int indent) {
+        return toJSON().toString(indentFactor, indent);
+    }
+
+    public Writer write(Writer writer) throws IOException {
+        int start = positions[entry];
+        writer.write(source, start, positions[links[entry]] + 1 - start);
+        return writer;
+    }
+
+    public Writer writeCanonical(Writer writer) throws IOException {
+        return toJSON().writeCanonical(writer);
+    }
+
+    /**
+     * Returns the entry where the first member or element starts (the key of
+     * a member, the opening bracket for the first element), or -1 if empty.
+     */
+    private int first() {
+        if (isEmpty()) {
+            return -1;
+        }
+        if (isArray()) {
+            return entry;
+        }
+        checkKey(entry + 1);
+        return entry + 1;
+    }
+
+    /**
+     * Returns the entry where the member or element after the one starting at
+     * e starts, or -1 if it is the last one.
+     */
+    private int following(int e) {
+        int next = skipValue(isArray() ? e : e + 1);
+        if (next == links[entry]) {
+            return -1;
+        }
+        if (source.charAt(positions[next]) != ',') {
+            throw syntaxError(isArray() ? "Expected a ',' or ']'" : "Expected a ',' or '}'", positions[next]);
+        }
+        if (isArray()) {
+            return next;
+        }
+        checkKey(next + 1);
+        return next + 1;
+    }
+
+    private int find(String key) {
+        if (isArray()) {
+            throw new JSONException("Not a JSONObject.");
+        }
+        for (int e = first(); e >= 0; e = following(e)) {
+            if (keyEquals(e, key)) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    private void checkKey(int e) {
+        if (source.charAt(positions[e]) != '"') {
+            throw syntaxError("Expected a string key", positions[e]);
+        }
+        if (source.charAt(positions[e + 1]) != ':') {
+            throw syntaxError("Expected a ':' after a key", positions[e + 1]);
+        }
+    }
+
+    private boolean keyEquals(int e, String key) {
+        int start = positions[e] + 1;
+        int end = source.lastIndexOf('"', positions[e + 1] - 1);
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) == '\\') {
+                return key.equals(key(e));
+            }
+        }
+        return end - start == key.length() && source.regionMatches(start, key, 0, end - start);
+    }
+
+    private String key(int e) {
+        return new JSONTokener(source, positions[e] + 1).nextStringStrict();
+    }
+
+    /**
+     * Returns the position of the first character after the separator at
+     * entry sep that is not whitespace.
+     */
+    private int valueStart(int sep) {
+        int start = positions[sep] + 1;
+        while (isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the entry that follows the value after the separator at entry
+     * sep.
+     */
+    private int skipValue(int sep) {
+        int next = sep + 1;
+        if (valueStart(sep) == positions[next]) {
+            switch (source.charAt(positions[next])) {
+                case '"':
+                    return next + 1;
+                case '{':
+                case '[':
+                    return links[next] + 1;
+                default:
+                    throw syntaxError("Missing value", positions[next]);
+            }
+        }
+        return next;
+    }
+
+    private Object valueAfter(int sep) {
+        int next = sep + 1;
+        int start = valueStart(sep);
+        if (start == positions[next]) {
+            switch (source.charAt(start)) {
+                case '"':
+                    return new JSONTokener(source, start + 1).nextStringStrict();
+                case '{':
+                case '[':
+                    return new IndexedJSON(source, positions, links, next);
+                default:
+                    throw syntaxError("Missing value", start);
+            }
+        }
+        JSONTokener tokener = new JSONTokener(source, start);
+        Object value = tokener.nextValueStrict(STRICT_CONFIG);
+        if (tokener.nextCleanStrict() != source.charAt(positions[next])) {
+            throw syntaxError("Unexpected text after a value", start);
+        }
+        return value instanceof Number ? JSONUtils.transformNumber((Number) value) : value;
+    }
+
+    private static int parseIndex(String token) {
+        if (token.length() == 0 || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    public JSON freeze() {
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return true;
+    }
+
+    private static JSONException syntaxError(String message, int position) {
+        return new JSONException(message + " at character " + position);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads JSON Lines (newline-delimited JSON) text: one JSONObject, JSONArray or
+ * JSONNull per line, blank lines are skipped. The source is read through a
+ * fixed buffer and only one line is held in memory at a time (several with
+ * <code>stream(true)</code>), so arbitrarily large files can be processed.
+ * <p/>
+ * <pre>
+ * try (JSONLinesReader lines = JSONLinesReader.open(path, jsonConfig)) {
+ *     while (lines.hasNext()) {
+ *         JSONObject event = (JSONObject) lines.next();
+ *         ...
+ *     }
+ * }</pre>
+ * <p/>
+ * Each line is parsed with the reader's JsonConfig. Syntax errors are reported
+ * as a JSONException naming the line, when the line is returned.
+ */
+public class JSONLinesReader implements Iterator<JSON>, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final JsonConfig jsonConfig;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private char[] line = new char[256];
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private String nextLine;
+    private long nextLineNumber;
+    private boolean eof;
+
+    /**
+     * Creates a JSONLinesReader over a character stream. The stream is closed
+     * when the reader is closed.
+     *
+     * @param reader the source of the JSON Lines text.
+     */
+    public JSONLinesReader(Reader reader) {
+        this(reader, new JsonConfig());
+    }
+
+    /**
+     * Creates a JSONLinesReader over a character stream. The stream is closed
+     * when the reader is closed.
+     *
+     * @param reader     the source of the JSON Lines text.
+     * @param jsonConfig the configuration used to parse each line.
+     */
+    public JSONLinesReader(Reader reader, JsonConfig jsonConfig) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null.");
+        }
+        this.reader = reader;
+        this.jsonConfig = jsonConfig != null ? jsonConfig : new JsonConfig();
+    }
+
+    /**
+     * Opens an UTF-8 encoded JSON Lines file.
+     *
+     * @param path       the file holding the JSON Lines text.
+     * @param jsonConfig the configuration used to parse each line.
+     *
+     * @throws JSONException if the file can not be opened.
+     */
+    public static JSONLinesReader open(Path path, JsonConfig jsonConfig) {
+        try {
+            return new JSONLinesReader(Files.newBufferedReader(path, StandardCharsets.UTF_8), jsonConfig);
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    /**
+     * Closes the underlying stream.
+     */
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns true if there is another non blank line to read.
+     *
+     * @throws JSONException if the stream can not be read.
+     */
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readLine();
+            nextLineNumber = lineNumber;
+        }
+        return nextLine != null;
+    }
+
+    /**
+     * Parses the next non blank line.
+     *
+     * @throws JSONException if the stream can not be read or the line is not
+     *                       a valid JSON value.
+     */
+    public JSON next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String text = nextLine;
+        nextLine = null;
+        return parse(text, nextLineNumber);
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining lines, see
+     * {@link #stream(boolean)}.
+     */
+    public Stream<JSON> stream() {
+        return stream(false);
+    }
+
+    /**
+     * Returns a Stream over the remaining lines. Closing the stream closes the
+     * reader.<br>
+     * A parallel stream still reads lines sequentially but parses them on the
+     * common <code>ForkJoinPool</code>, in batches of lines held in memory
+     * together. Its order is preserved by ordered operations such as
+     * <code>forEachOrdered</code> and <code>collect</code>. Parsing events are
+     * delivered from several threads, the JsonConfig should not have event
+     * listeners in that case.
+     *
+     * @param parallel whether lines are parsed in parallel.
+     */
+    public Stream<JSON> stream(boolean parallel) {
+        Iterator<Line> lines = new Iterator<Line>() {
+            public boolean hasNext() {
+                return JSONLinesReader.this.hasNext();
+            }
+
+            public Line next() {
+                if (!JSONLinesReader.this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Line next = new Line(nextLine, nextLineNumber);
+                nextLine = null;
+                return next;
+            }
+        };
+        Spliterator<Line> spliterator = Spliterators.spliteratorUnknownSize(lines,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, parallel)
+            .map(l -> parse(l.text, l.number))
+            .onClose(() -> {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Returns the number of the last line read, starting at 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private JSON parse(String text, long number) {
+        try {
+            return JSONSerializer.toJSON(text, jsonConfig);
+        } catch (JSONException jsone) {
+            throw new JSONException("Line " + number + ": " + jsone.getMessage(), jsone);
+        }
+    }
+
+    /**
+     * Returns the next non blank line without its surrounding whitespace, or
+     * null at the end of the stream.
+     */
+    private String readLine() {
+        while (true) {
+            int length = 0;
+            boolean read = false;
+            while (true) {
+                if (position == limit && !fill()) {
+                    break;
+                }
+                read = true;
+                char c = buffer[position++];
+                if (c == '\n') {
+                    break;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = c;
+            }
+            if (!read) {
+                return null;
+            }
+            lineNumber++;
+            int start = 0;
+            while (start < length && line[start] <= ' ') {
+                start++;
+            }
+            while (length > start && line[length - 1] <= ' ') {
+                length--;
+            }
+            if (start < length) {
+                return new String(line, start, length - start);
+            }
+        }
+    }
+
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        try {
+            int n = reader.read(buffer, 0, buffer.length);
+            if (n <= 0) {
+                eof = true;
+                return false;
+            }
+            position = 0;
+            limit = n;
+            return true;
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    private static final class Line {
+        private final String text;
+        private final long number;
+
+        private Line(String text, long number) {
+            this.text = text;
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes JSON Lines (newline-delimited JSON) text: each value is written with
+ * {@link JSON#write(Writer)} followed by a '\n'. Output goes through a buffer
+ * that is flushed every <code>batchSize</code> values, on <code>flush</code>
+ * and on <code>close</code>.
+ * <p/>
+ * <pre>
+ * try (JSONLinesWriter lines = JSONLinesWriter.open(path, jsonConfig)) {
+ *     for (Object event : events) {
+ *         lines.write(event);
+ *     }
+ * }</pre>
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+    /**
+     * Number of values written between two flushes by default.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Writer writer;
+    private final JsonConfig jsonConfig;
+    private final int batchSize;
+    private int pending;
+
+    /**
+     * Creates a JSONLinesWriter over a character stream. The stream is closed
+     * when the writer is closed.
+     *
+     * @param writer the destination of the JSON Lines text.
+     */
+    public JSONLinesWriter(Writer writer) {
+        this(writer, new JsonConfig(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a JSONLinesWriter over a character stream. The stream is closed
+     * when the writer is closed.
+     *
+     * @param writer     the destination of the JSON Lines text.
+     * @param jsonConfig the configuration used to transform values that are
+     *                   not JSON.
+     * @param batchSize  the number of values written between two flushes.
+     */
+    public JSONLinesWriter(Writer writer, JsonConfig jsonConfig, int batchSize) {
+        if (writer == null) {
+            throw new IllegalArgumentException("writer is null.");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive.");
+        }
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.jsonConfig = jsonConfig != null ? jsonConfig : new JsonConfig();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Opens an UTF-8 encoded JSON Lines file for appending, creating it if
+     * needed.
+     *
+     * @param path       the file receiving the JSON Lines text.
+     * @param jsonConfig the configuration used to transform values that are
+     *                   not JSON.
+     *
+     * @throws JSONException if the file can not be opened.
+     */
+    public static JSONLinesWriter open(Path path, JsonConfig jsonConfig) {
+        try {
+            return new JSONLinesWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND),
+                jsonConfig, DEFAULT_BATCH_SIZE);
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    /**
+     * Appends a value as one line. Values that are not JSON are transformed
+     * with {@link JSONSerializer#toJSON(Object, JsonConfig)}.
+     *
+     * @return this writer.
+     */
+    public JSONLinesWriter write(Object value) throws IOException {
+        JSON json = value instanceof JSON ? (JSON) value : JSONSerializer.toJSON(value, jsonConfig);
+        json.write(writer);
+        writer.write('\n');
+        if (++pending == batchSize) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Flushes the buffered lines to the underlying stream.
+     */
+    public void flush() throws IOException {
+        pending = 0;
+        writer.flush();
+    }
+
+    /**
+     * Flushes the buffered lines and closes the underlying stream.
+     */
+    public void close() throws IOException {
+        pending = 0;
+        writer.close();
+    }
+}
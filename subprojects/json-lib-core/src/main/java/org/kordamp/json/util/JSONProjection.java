@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled set of JSON Pointer selectors telling the parser which values to
+ * build, see {@link org.kordamp.json.JsonConfig#setProjection(JSONProjection)}.
+ * <p/>
+ * Each selector is a JSON Pointer (RFC 6901) where a <code>*</code> token
+ * matches any key or index, for example <code>/items/*&#47;id</code> or
+ * <code>/meta</code>. A value is built if it is selected or if it contains a
+ * selected value, every other value is skipped over without being parsed. The
+ * empty selector <code>""</code> selects the whole document.
+ * <p/>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class JSONProjection {
+    /**
+     * Selects a value and everything it contains.
+     */
+    public static final JSONProjection ALL = new JSONProjection(Collections.<String, JSONProjection>emptyMap(), null);
+
+    private final Map<String, JSONProjection> children;
+    private final JSONProjection any;
+
+    private JSONProjection(Map<String, JSONProjection> children, JSONProjection any) {
+        this.children = children;
+        this.any = any;
+    }
+
+    /**
+     * Compiles a set of selectors.
+     *
+     * @param selectors JSON Pointers, with <code>*</code> matching any token.
+     *
+     * @throws JSONException if a selector does not begin with '/'.
+     */
+    public static JSONProjection compile(String... selectors) {
+        List<List<String>> paths = new ArrayList<List<String>>();
+        for (String selector : selectors) {
+            List<String> tokens = new ArrayList<String>();
+            if (selector.length() > 0) {
+                if (selector.charAt(0) != '/') {
+                    throw new JSONException("A JSON Pointer must begin with '/'.");
+                }
+                for (int start = 1; ; ) {
+                    int end = selector.indexOf('/', start);
+                    String token = selector.substring(start, end < 0 ? selector.length() : end);
+                    tokens.add(token.equals("*") ? null : token.replace("~1", "/")
+                        .replace("~0", "~"));
+                    if (end < 0) {
+                        break;
+                    }
+                    start = end + 1;
+                }
+            }
+            paths.add(tokens);
+        }
+        return build(paths, 0);
+    }
+
+    /**
+     * Builds the node selecting the given paths from their token at depth on,
+     * a null token standing for '*'.
+     */
+    private static JSONProjection build(List<List<String>> paths, int depth) {
+        Map<String, List<List<String>>> named = new LinkedHashMap<String, List<List<String>>>();
+        List<List<String>> wildcard = new ArrayList<List<String>>();
+        for (List<String> path : paths) {
+            if (path.size() == depth) {
+                return ALL;
+            }
+            String token = path.get(depth);
+            if (token == null) {
+                wildcard.add(path);
+            } else {
+                List<List<String>> group = named.get(token);
+                if (group == null) {
+                    group = new ArrayList<List<String>>();
+                    named.put(token, group);
+                }
+                group.add(path);
+            }
+        }
+        Map<String, JSONProjection> children = new HashMap<String, JSONProjection>();
+        for (Map.Entry<String, List<List<String>>> entry : named.entrySet()) {
+            List<List<String>> group = entry.getValue();
+            group.addAll(wildcard);
+            children.put(entry.getKey(), build(group, depth + 1));
+        }
+        return new JSONProjection(children, wildcard.isEmpty() ? null : build(wildcard, depth + 1));
+    }
+
+    /**
+     * Returns true if this projection selects everything.
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * Returns the projection applying to the value of a key, or null if the
+     * value is not selected.
+     */
+    public JSONProjection select(String key) {
+        if (this == ALL) {
+            return ALL;
+        }
+        JSONProjection child = children.get(key);
+        return child != null ? child : any;
+    }
+
+    /**
+     * Returns the projection applying to the element at an index, or null if
+     * the element is not selected.
+     */
+    public JSONProjection select(int index) {
+        if (this == ALL) {
+            return ALL;
+        }
+        return children.isEmpty() ? any : select(String.valueOf(index));
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONFunction;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * JSONReader is a pull parser: it reads JSON text one token at a time without
+ * building a JSONObject or JSONArray, so arbitrarily large documents can be
+ * processed in constant memory.
+ * <p/>
+ * Each call to <code>nextToken</code> advances to the next token and returns
+ * its type; the accessors (<code>getText</code>, <code>getLong</code>,
+ * <code>getCurrentName</code>, ...) describe the current token. Sub-trees can
+ * be skipped with <code>skipChildren</code> or materialized with
+ * <code>readTree</code>. For example,
+ * <p/>
+ * <pre>
+ * JSONReader reader = new JSONReader(new FileReader("orders.json"));
+ * reader.nextToken(); // START_ARRAY
+ * while (reader.nextToken() == JSONReader.Token.START_OBJECT) {
+ *     JSONObject order = (JSONObject) reader.readTree();
+ *     ...
+ * }</pre>
+ * <p/>
+ * The reader accepts the same lenient syntax as JSONTokener (single quotes,
+ * unquoted keys, ';' separators, '=' and '=&gt;' after keys, comments and
+ * functions). Several values may follow each other at the top level,
+ * <code>nextToken</code> returns null once the input is exhausted.
+ */
+public class JSONReader implements Closeable {
+    /**
+     * The types of token returned by {@link JSONReader#nextToken()}.
+     */
+    public enum Token {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        FIELD_NAME,
+        VALUE_STRING,
+        VALUE_NUMBER,
+        VALUE_TRUE,
+        VALUE_FALSE,
+        VALUE_NULL,
+        VALUE_FUNCTION
+    }
+
+    private final JSONTokener tokener;
+    private final JsonConfig jsonConfig;
+    private final Closeable source;
+    /**
+     * What the reader expects next. Values: 'i' (top level value), 'k' (first
+     * key or '}'), 'K' (key after ','), 'v' (value after a key), 'o' (',' or
+     * '}'), 'a' (first element or ']'), 'A' (element after ','), 'e' (',' or
+     * ']').
+     */
+    private char mode = 'i';
+    /**
+     * The container stack, 'o' (object) or 'a' (array) per level.
+     */
+    private char[] stack = new char[16];
+    /**
+     * The last field name read at each level.
+     */
+    private String[] names = new String[16];
+    private int depth;
+    private Token token;
+    private Object value;
+
+    /**
+     * Creates a JSONReader over a String.
+     *
+     * @param text the JSON text.
+     */
+    public JSONReader(String text) {
+        this(new JSONTokener(text), new JsonConfig());
+    }
+
+    /**
+     * Creates a JSONReader over a character stream. The stream is closed when
+     * the reader is closed.
+     *
+     * @param reader the source of the JSON text.
+     */
+    public JSONReader(Reader reader) {
+        this(reader, new JsonConfig());
+    }
+
+    /**
+     * Creates a JSONReader over a tokener.
+     *
+     * @param tokener the source of the JSON text.
+     */
+    public JSONReader(JSONTokener tokener) {
+        this(tokener, new JsonConfig());
+    }
+
+    /**
+     * Creates a JSONReader over a tokener.
+     *
+     * @param tokener    the source of the JSON text.
+     * @param jsonConfig the configuration used for values and by readTree().
+     */
+    public JSONReader(JSONTokener tokener, JsonConfig jsonConfig) {
+        this(tokener, jsonConfig, tokener instanceof Closeable ? (Closeable) tokener : null);
+    }
+
+    private JSONReader(JSONTokener tokener, JsonConfig jsonConfig, Closeable source) {
+        if (tokener == null) {
+            throw new IllegalArgumentException("tokener is null.");
+        }
+        this.tokener = tokener;
+        this.jsonConfig = jsonConfig != null ? jsonConfig : new JsonConfig();
+        this.source = source;
+    }
+
+    /**
+     * Creates a JSONReader over a character stream. The stream is closed when
+     * the reader is closed.
+     *
+     * @param reader     the source of the JSON text.
+     * @param jsonConfig the configuration used for values and by readTree().
+     */
+    public JSONReader(Reader reader, JsonConfig jsonConfig) {
+        this(new ReaderJSONTokener(reader), jsonConfig, reader);
+    }
+
+    /**
+     * Closes the underlying source, if the reader owns one.
+     */
+    public void close() throws IOException {
+        if (source != null) {
+            source.close();
+        }
+    }
+
+    /**
+     * Returns the current token, or null if nextToken() has not been called
+     * yet or the input is exhausted.
+     */
+    public Token getCurrentToken() {
+        return token;
+    }
+
+    /**
+     * Returns the name of the field the current token belongs to, or null if
+     * the current token is not inside an object.
+     */
+    public String getCurrentName() {
+        if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+            return depth > 1 ? names[depth - 2] : null;
+        }
+        return depth > 0 ? names[depth - 1] : null;
+    }
+
+    /**
+     * Returns the nesting level of the current token. Tokens at the top level
+     * have depth 0; the START and END tokens of a container have the depth at
+     * which the container itself appears.
+     */
+    public int getDepth() {
+        if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+            return depth - 1;
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the textual representation of the current token.
+     */
+    public String getText() {
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return "{";
+            case END_OBJECT:
+                return "}";
+            case START_ARRAY:
+                return "[";
+            case END_ARRAY:
+                return "]";
+            default:
+                return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Returns the value of the current token: a String (for FIELD_NAME and
+     * VALUE_STRING), a Number, a Boolean, JSONNull or a JSONFunction. Returns
+     * null for structural tokens.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the value of the current VALUE_NUMBER token.
+     *
+     * @throws JSONException if the current token is not a number.
+     */
+    public Number getNumber() {
+        if (token != Token.VALUE_NUMBER) {
+            throw new JSONException("Current token (" + token + ") is not a number");
+        }
+        return (Number) value;
+    }
+
+    /**
+     * Returns the value of the current VALUE_NUMBER token as an int.
+     *
+     * @throws JSONException if the current token is not a number.
+     */
+    public int getInt() {
+        return getNumber().intValue();
+    }
+
+    /**
+     * Returns the value of the current VALUE_NUMBER token as a long.
+     *
+     * @throws JSONException if the current token is not a number.
+     */
+    public long getLong() {
+        return getNumber().longValue();
+    }
+
+    /**
+     * Returns the value of the current VALUE_NUMBER token as a double.
+     *
+     * @throws JSONException if the current token is not a number.
+     */
+    public double getDouble() {
+        return getNumber().doubleValue();
+    }
+
+    /**
+     * Returns the value of the current VALUE_TRUE or VALUE_FALSE token.
+     *
+     * @throws JSONException if the current token is not a boolean.
+     */
+    public boolean getBoolean() {
+        if (token == Token.VALUE_TRUE) {
+            return true;
+        }
+        if (token == Token.VALUE_FALSE) {
+            return false;
+        }
+        throw new JSONException("Current token (" + token + ") is not a boolean");
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return the type of the token, or null if the input is exhausted.
+     *
+     * @throws JSONException if the input is not valid JSON text.
+     */
+    public Token nextToken() {
+        value = null;
+        char c = tokener.nextClean();
+        switch (mode) {
+            case 'i':
+                if (c == 0) {
+                    return token = null;
+                }
+                return readValue(c);
+            case 'k':
+            case 'K':
+                switch (c) {
+                    case 0:
+                        throw tokener.syntaxError("A JSONObject text must end with '}'");
+                    case '{':
+                        throw tokener.syntaxError("Object found where key expected");
+                    case '[':
+                        throw tokener.syntaxError("Array found where key expected");
+                    case '}':
+                        return endContainer(Token.END_OBJECT);
+                    default:
+                        String key;
+                        if (c == '"' || c == '\'') {
+                            key = tokener.nextKey(c, jsonConfig);
+                        } else {
+                            tokener.back();
+                            key = tokener.nextValue(jsonConfig)
+                                .toString();
+                        }
+                        c = tokener.nextClean();
+                        if (c == '=') {
+                            if (tokener.next() != '>') {
+                                tokener.back();
+                            }
+                        } else if (c != ':') {
+                            throw tokener.syntaxError("Expected a ':' after a key");
+                        }
+                        names[depth - 1] = key;
+                        value = key;
+                        mode = 'v';
+                        return token = Token.FIELD_NAME;
+                }
+            case 'v':
+                return readValue(c);
+            case 'o':
+                switch (c) {
+                    case ';':
+                    case ',':
+                        mode = 'K';
+                        return nextToken();
+                    case '}':
+                        return endContainer(Token.END_OBJECT);
+                    default:
+                        throw tokener.syntaxError("Expected a ',' or '}'");
+                }
+            case 'a':
+            case 'A':
+                switch (c) {
+                    case 0:
+                        throw tokener.syntaxError("A JSONArray text must end with ']'");
+                    case ']':
+                        return endContainer(Token.END_ARRAY);
+                    case ',':
+                        // an empty slot is a null element
+                        tokener.back();
+                        mode = 'e';
+                        value = JSONNull.getInstance();
+                        return token = Token.VALUE_NULL;
+                    default:
+                        return readValue(c);
+                }
+            case 'e':
+                switch (c) {
+                    case ';':
+                    case ',':
+                        mode = 'A';
+                        return nextToken();
+                    case ']':
+                        return endContainer(Token.END_ARRAY);
+                    default:
+                        throw tokener.syntaxError("Expected a ',' or ']'");
+                }
+            default:
+                throw new IllegalStateException("mode " + mode);
+        }
+    }
+
+    /**
+     * Returns the current object or array as a tree. The reader must be
+     * positioned on a START_OBJECT or START_ARRAY token (or on the FIELD_NAME
+     * preceding one), when it returns the current token is the matching END
+     * token. A VALUE_NULL token yields JSONNull. The tree is built with the
+     * reader's JsonConfig, so filters, exclusions and events apply to it.
+     *
+     * @throws JSONException if the current token does not start a tree.
+     */
+    public JSON readTree() {
+        if (token == null || token == Token.FIELD_NAME) {
+            nextToken();
+        }
+        if (token == Token.VALUE_NULL) {
+            return JSONNull.getInstance();
+        }
+        JSON json;
+        if (token == Token.START_OBJECT) {
+            tokener.back();
+            json = JSONObject.Impl.fromJSONTokener(tokener, jsonConfig);
+            endContainer(Token.END_OBJECT);
+        } else if (token == Token.START_ARRAY) {
+            tokener.back();
+            json = JSONArray.Impl.fromJSONTokener(tokener, jsonConfig);
+            endContainer(Token.END_ARRAY);
+        } else {
+            throw new JSONException("Current token (" + token + ") does not start an object or array");
+        }
+        return json;
+    }
+
+    /**
+     * Skips the children of the current START_OBJECT or START_ARRAY token, so
+     * that the current token becomes the matching END token. Does nothing on
+     * any other token.
+     */
+    public void skipChildren() {
+        if (token != Token.START_OBJECT && token != Token.START_ARRAY) {
+            return;
+        }
+        int level = 1;
+        while (level > 0) {
+            Token t = nextToken();
+            if (t == null) {
+                throw tokener.syntaxError("Unexpected end of input");
+            }
+            switch (t) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    level++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    level--;
+                    break;
+                default:
+                    // keep going
+            }
+        }
+    }
+
+    private Token endContainer(Token end) {
+        depth--;
+        names[depth] = null;
+        afterValue();
+        return token = end;
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            mode = 'i';
+        } else {
+            mode = stack[depth - 1] == 'o' ? 'o' : 'e';
+        }
+    }
+
+    private void push(char type) {
+        if (depth == stack.length) {
+            char[] s = new char[depth * 2];
+            System.arraycopy(stack, 0, s, 0, depth);
+            stack = s;
+            String[] n = new String[depth * 2];
+            System.arraycopy(names, 0, n, 0, depth);
+            names = n;
+        }
+        stack[depth++] = type;
+    }
+
+    private void readFunction(String header) {
+        String params = JSONUtils.getFunctionParams(header);
+        int i = 0;
+        StringBuilder sb = new StringBuilder();
+        for (; ; ) {
+            char ch = tokener.next();
+            if (ch == 0) {
+                break;
+            }
+            if (ch == '{') {
+                i++;
+            }
+            if (ch == '}') {
+                i--;
+            }
+            sb.append(ch);
+            if (i == 0) {
+                break;
+            }
+        }
+        if (i != 0) {
+            throw tokener.syntaxError("Unbalanced '{' or '}' on prop: " + header);
+        }
+        value = new JSONFunction((params != null) ? StringUtils.split(params, ",") : null,
+            sb.substring(1, sb.length() - 1)
+                .trim());
+    }
+
+    private Token readValue(char c) {
+        switch (c) {
+            case 0:
+                throw tokener.syntaxError("Missing value");
+            case '{':
+                push('o');
+                mode = 'k';
+                return token = Token.START_OBJECT;
+            case '[':
+                push('a');
+                mode = 'a';
+                return token = Token.START_ARRAY;
+            case '"':
+            case '\'':
+                value = tokener.nextString(c);
+                afterValue();
+                return token = Token.VALUE_STRING;
+            default:
+                tokener.back();
+        }
+        Object v = tokener.nextValue(jsonConfig);
+        afterValue();
+        if (v instanceof Boolean) {
+            value = v;
+            return token = ((Boolean) v).booleanValue() ? Token.VALUE_TRUE : Token.VALUE_FALSE;
+        }
+        if (v instanceof Number) {
+            value = v;
+            return token = Token.VALUE_NUMBER;
+        }
+        if (v instanceof JSONNull) {
+            value = JSONNull.getInstance();
+            return token = Token.VALUE_NULL;
+        }
+        if (JSONUtils.isFunctionHeader(v)) {
+            readFunction((String) v);
+            return token = Token.VALUE_FUNCTION;
+        }
+        value = v;
+        return token = Token.VALUE_STRING;
+    }
+}
@@ -20,11 +20,15 @@ package org.kordamp.json.util;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.kordamp.json.JSONArray;
 import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONLimitException;
 import org.kordamp.json.JSONNull;
 import org.kordamp.json.JSONObject;
 import org.kordamp.json.JsonConfig;
 import org.kordamp.json.regexp.RegexpUtils;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+
 
 /**
  * A JSONTokener takes a source string and extracts characters and tokens from
@@ -43,6 +47,65 @@ public class JSONTokener {
      * The source string being tokenized.
      */
     private String mySource;
+    /**
+     * True when mySource is the text being parsed, values can then be kept as
+     * slices of it.
+     */
+    private boolean sliceable;
+    private static final double MAX_EXACT_DOUBLE = 9007199254740992d;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * What nextLazyJSON() accepts next.
+     */
+    private static final int SKIM_VALUE = 0;
+    private static final int SKIM_VALUE_OR_END = 1;
+    private static final int SKIM_KEY = 2;
+    private static final int SKIM_KEY_OR_END = 3;
+    private static final int SKIM_COLON = 4;
+    private static final int SKIM_COMMA_OR_END = 5;
+
+    /**
+     * Canonical keys of this parse, created on demand.
+     */
+    private SymbolTable symbolTable;
+    /**
+     * The projection of the value being parsed, null before the first object
+     * or array is entered.
+     */
+    private JSONProjection projection;
+    /**
+     * Number of objects and arrays entered and not exited yet.
+     */
+    private int depth;
+    /**
+     * Limits of the parse, copied from the JsonConfig when entering an object
+     * or array, Integer.MAX_VALUE when not limited.
+     */
+    private int maxDepth = Integer.MAX_VALUE;
+    private int maxLength = Integer.MAX_VALUE;
+    private int maxMembers = Integer.MAX_VALUE;
+    private int maxNumberLength = Integer.MAX_VALUE;
+    private int maxStringLength = Integer.MAX_VALUE;
+    private boolean limited;
+    /**
+     * Characters read by the last call to scanNumber().
+     */
+    private char[] numberBuffer = new char[32];
+    private int numberLength;
+    /**
+     * The character that stopped the last call to scanNumber().
+     */
+    private char numberNext;
+    /**
+     * Buffer reused by the string scanners, dropped when it grew past
+     * MAX_SCRATCH_CAPACITY so a single huge value is not retained.
+     */
+    private StringBuilder scratch;
+    private static final int MAX_SCRATCH_CAPACITY = 1 << 16;
+    private static final JsonConfig DEFAULT_CONFIG = new JsonConfig();
 
     /**
      * Construct a JSONTokener from a string.
@@ -50,6 +113,10 @@ public class JSONTokener {
      * @param s A source string.
      */
     public JSONTokener(String s) {
+        init(s);
+    }
+
+    private void init(String s) {
         this.myIndex = 0;
         if (s != null) {
             s = s.trim();
@@ -67,6 +134,28 @@ public class JSONTokener {
             }
         }
         this.mySource = s;
+        this.sliceable = true;
+    }
+
+    /**
+     * Construct a JSONTokener that starts at an index of an already validated
+     * source string.
+     */
+    JSONTokener(String s, int index) {
+        this.myIndex = index;
+        this.mySource = s;
+        this.sliceable = true;
+    }
+
+    /**
+     * Construct a JSONTokener without a source string. Subclasses that read
+     * characters from somewhere else must override the character access
+     * methods (<code>next</code>, <code>back</code>, <code>peek</code>,
+     * <code>more</code>, etc).
+     */
+    protected JSONTokener() {
+        this.myIndex = 0;
+        this.mySource = "";
     }
 
     /**
@@ -242,8 +331,11 @@ public class JSONTokener {
      */
     public String nextString(char quote) {
         char c;
-        StringBuffer sb = new StringBuffer();
+        StringBuilder sb = scratch();
         for (; ; ) {
+            if (sb.length() > this.maxStringLength) {
+                throw stringLimitError();
+            }
             c = next();
             switch (c) {
                 case 0:
@@ -287,6 +379,63 @@ public class JSONTokener {
         }
     }
 
+    /**
+     * Return the characters of a key up to the next close quote character, the
+     * opening quote must have been consumed already. Behaves like
+     * <code>nextString</code> (or <code>nextStringStrict</code> in strict
+     * mode) but, when key canonicalization is enabled, every occurrence of the
+     * same key returns the same String instance.
+     *
+     * @param quote      The quoting character.
+     * @param jsonConfig the configuration of the parse.
+     *
+     * @return A String.
+     *
+     * @throws JSONException Unterminated string.
+     * @see JsonConfig#setCanonicalizeKeys(boolean)
+     */
+    public String nextKey(char quote, JsonConfig jsonConfig) {
+        if (!jsonConfig.isCanonicalizeKeys()) {
+            return jsonConfig.isStrictMode() ? nextStringStrict() : nextString(quote);
+        }
+        if (this.symbolTable == null) {
+            this.symbolTable = new SymbolTable();
+        }
+        String key = nextSimpleString(quote, this.symbolTable);
+        if (key == null) {
+            key = this.symbolTable.intern(jsonConfig.isStrictMode() ? nextStringStrict() : nextString(quote));
+        }
+        return key;
+    }
+
+    /**
+     * Reads a string literal without escapes nor control characters straight
+     * from the source and resolves it through the symbol table. Subclasses that
+     * buffer their input override this method to look up keys in their buffer.
+     *
+     * @param quote   The quoting character.
+     * @param symbols the symbol table of this parse.
+     *
+     * @return the canonical String, or null (consuming nothing) if the literal
+     * needs the regular string scanner.
+     */
+    protected String nextSimpleString(char quote, SymbolTable symbols) {
+        String source = this.mySource;
+        int length = (int) Math.min(source.length(), (long) this.myIndex + this.maxStringLength);
+        for (int i = this.myIndex; i < length; i++) {
+            char c = source.charAt(i);
+            if (c == quote) {
+                String s = symbols.lookup(source, this.myIndex, i);
+                this.myIndex = i + 1;
+                return s;
+            }
+            if (c == '\\' || c < ' ') {
+                return null;
+            }
+        }
+        return null;
+    }
+
     /**
      * Get the text up but not including the specified character or the end of
      * line, whichever comes first.
@@ -343,7 +492,7 @@ public class JSONTokener {
      * @throws JSONException If syntax error.
      */
     public Object nextValue() {
-        return nextValue(new JsonConfig());
+        return nextValue(DEFAULT_CONFIG);
     }
 
     /**
@@ -355,18 +504,34 @@ public class JSONTokener {
      * @throws JSONException If syntax error.
      */
     public Object nextValue(JsonConfig jsonConfig) {
+        if (jsonConfig.isStrictMode()) {
+            return nextValueStrict(jsonConfig);
+        }
         char c = nextClean();
         String s;
 
         switch (c) {
             case '"':
             case '\'':
+                if (c == '"' && jsonConfig.isLazyValues()) {
+                    LazyString lazy = nextLazyString();
+                    if (lazy != null) {
+                        return lazy;
+                    }
+                }
                 return nextString(c);
             case '{':
-                back();
-                return JSONObject.fromObject(this, jsonConfig);
             case '[':
+                if (jsonConfig.isLazyTree()) {
+                    LazyJSON lazy = nextLazyJSON(jsonConfig);
+                    if (lazy != null) {
+                        return lazy;
+                    }
+                }
                 back();
+                if (c == '{') {
+                    return JSONObject.fromObject(this, jsonConfig);
+                }
                 return JSONArray.fromObject(this, jsonConfig);
             default:
                 // empty
@@ -379,9 +544,27 @@ public class JSONTokener {
        * the end of the text or a formatting character.
        */
 
-        StringBuffer sb = new StringBuffer();
         char b = c;
+        StringBuilder sb = scratch();
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            if (jsonConfig.isLazyValues()) {
+                LazyNumber lazy = nextLazyNumber(false);
+                if (lazy != null) {
+                    return lazy;
+                }
+            }
+            Object number = scanNumber(c, false);
+            if (number != null) {
+                return number;
+            }
+            // not a plain decimal number, continue with the characters read so far
+            sb.append(this.numberBuffer, 0, this.numberLength);
+            c = this.numberNext;
+        }
         while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+            if (sb.length() == this.maxStringLength) {
+                throw stringLimitError();
+            }
             sb.append(c);
             c = next();
         }
@@ -417,18 +600,10 @@ public class JSONTokener {
 
         if ((b >= '0' && b <= '9') || b == '.' || b == '-' || b == '+') {
             if (b == '0') {
-                if (s.length() > 2 && (s.charAt(1) == 'x' || s.charAt(1) == 'X')) {
-                    try {
-                        return Integer.valueOf(Integer.parseInt(s.substring(2), 16));
-                    } catch (Exception e) {
-                  /* Ignore the error */
-                    }
-                } else {
-                    try {
-                        return Integer.valueOf(Integer.parseInt(s, 8));
-                    } catch (Exception e) {
-                  /* Ignore the error */
-                    }
+                Integer n = s.length() > 2 && (s.charAt(1) == 'x' || s.charAt(1) == 'X')
+                    ? parseInteger(s, 2, 16) : parseInteger(s, 0, 8);
+                if (n != null) {
+                    return n;
                 }
             }
 
@@ -454,6 +629,154 @@ public class JSONTokener {
         return s;
     }
 
+    /**
+     * Get the next char in the string, skipping only the whitespace allowed by
+     * RFC 8259 (space, horizontal tab, line feed and carriage return). Comments
+     * are not recognized.
+     *
+     * @return A character, or 0 if there are no more characters.
+     */
+    public char nextCleanStrict() {
+        for (; ; ) {
+            char c = next();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Return the characters up to the next double quote, following RFC 8259:
+     * only the standard escape sequences are accepted and control characters
+     * must be escaped. The opening quote must have been consumed already.
+     *
+     * @return A String.
+     *
+     * @throws JSONException Unterminated string or illegal escape.
+     */
+    public String nextStringStrict() {
+        StringBuilder sb = scratch();
+        for (; ; ) {
+            if (sb.length() > this.maxStringLength) {
+                throw stringLimitError();
+            }
+            char c = next();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\') {
+                c = next();
+                switch (c) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        break;
+                    case 'b':
+                        c = '\b';
+                        break;
+                    case 't':
+                        c = '\t';
+                        break;
+                    case 'n':
+                        c = '\n';
+                        break;
+                    case 'f':
+                        c = '\f';
+                        break;
+                    case 'r':
+                        c = '\r';
+                        break;
+                    case 'u':
+                        int u = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int h = dehexchar(next());
+                            if (h < 0) {
+                                throw syntaxError("Illegal unicode escape.");
+                            }
+                            u = (u << 4) | h;
+                        }
+                        c = (char) u;
+                        break;
+                    default:
+                        throw syntaxError("Illegal escape.");
+                }
+            } else if (c < ' ') {
+                if (c == 0 && !more()) {
+                    throw syntaxError("Unterminated string");
+                }
+                throw syntaxError("Unescaped control character in string");
+            }
+            sb.append(c);
+        }
+    }
+
+    /**
+     * Get the next value following RFC 8259 only: no comments, single quotes,
+     * unquoted text, functions or octal and hexadecimal numbers. The value can
+     * be a Boolean, a Number, a String, a JSONArray, a JSONObject or JSONNull.
+     *
+     * @return An object.
+     *
+     * @throws JSONException If syntax error.
+     */
+    public Object nextValueStrict(JsonConfig jsonConfig) {
+        char c = nextCleanStrict();
+        switch (c) {
+            case '"':
+                if (jsonConfig.isLazyValues()) {
+                    LazyString lazy = nextLazyString();
+                    if (lazy != null) {
+                        return lazy;
+                    }
+                }
+                return nextStringStrict();
+            case '{':
+            case '[':
+                if (jsonConfig.isLazyTree()) {
+                    LazyJSON lazy = nextLazyJSON(jsonConfig);
+                    if (lazy != null) {
+                        return lazy;
+                    }
+                }
+                back();
+                if (c == '{') {
+                    return JSONObject.fromObject(this, jsonConfig);
+                }
+                return JSONArray.fromObject(this, jsonConfig);
+            case 't':
+                nextLiteral("rue");
+                return Boolean.TRUE;
+            case 'f':
+                nextLiteral("alse");
+                return Boolean.FALSE;
+            case 'n':
+                nextLiteral("ull");
+                return JSONNull.getInstance();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                if (jsonConfig.isLazyValues()) {
+                    LazyNumber lazy = nextLazyNumber(true);
+                    if (lazy != null) {
+                        return lazy;
+                    }
+                }
+                return scanNumber(c, true);
+            case 0:
+                throw syntaxError("Missing value.");
+            default:
+                throw syntaxError("Unexpected character '" + c + "'.");
+        }
+    }
+
     /**
      * Look at the next character in the source string.
      *
@@ -471,6 +794,125 @@ public class JSONTokener {
         this.myIndex = 0;
     }
 
+    /**
+     * Points this tokener at a new source text and clears the state of the
+     * previous parse. Scratch buffers and the canonical keys are kept, so a
+     * tokener that is reset for every message does not reallocate them.
+     *
+     * @param text A source text.
+     *
+     * @return this tokener.
+     *
+     * @throws JSONException if the text starts with a bracket but does not end
+     *                       with the matching one.
+     */
+    public JSONTokener reset(CharSequence text) {
+        this.mySource = null;
+        this.projection = null;
+        this.depth = 0;
+        this.numberLength = 0;
+        this.numberNext = 0;
+        init(text != null ? text.toString() : null);
+        return this;
+    }
+
+    /**
+     * Returns the scratch buffer, emptied.
+     */
+    private StringBuilder scratch() {
+        StringBuilder sb = this.scratch;
+        if (sb == null || sb.capacity() > MAX_SCRATCH_CAPACITY) {
+            sb = new StringBuilder();
+            this.scratch = sb;
+        } else {
+            sb.setLength(0);
+        }
+        return sb;
+    }
+
+    /**
+     * Returns the projection of the value being parsed, see
+     * {@link JsonConfig#setProjection(JSONProjection)}. Null until the parser
+     * enters the first object or array, which then applies the projection of
+     * its JsonConfig.
+     */
+    public JSONProjection getProjection() {
+        return this.projection;
+    }
+
+    /**
+     * Sets the projection of the next value to parse.
+     */
+    public void setProjection(JSONProjection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * Skips over the next value without building it, matching brackets and
+     * skipping quoted strings. The value is not validated. Afterwards the next
+     * character is the ',', ';', '}' or ']' following the value.
+     *
+     * @throws JSONException if the source ends inside the value.
+     */
+    public void skipValue() {
+        int depth = 0;
+        char last = 0;
+        for (; ; ) {
+            char c = next();
+            switch (c) {
+                case 0:
+                    if (depth > 0 || last == 0) {
+                        throw syntaxError(depth > 0 ? "Unbalanced '{' or '['" : "Missing value.");
+                    }
+                    return;
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    continue;
+                case '\'':
+                    if (last != 0 && ":,;=>[{".indexOf(last) < 0) {
+                        break;
+                    }
+                    // fall through
+                case '"':
+                    for (char d = next(); d != c; d = next()) {
+                        if (d == 0) {
+                            throw syntaxError("Unterminated string");
+                        }
+                        if (d == '\\') {
+                            next();
+                        }
+                    }
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0) {
+                        back();
+                        return;
+                    }
+                    if (--depth == 0) {
+                        return;
+                    }
+                    break;
+                case ',':
+                case ';':
+                    if (depth == 0) {
+                        back();
+                        return;
+                    }
+                    break;
+                default:
+                    // part of a value
+            }
+            last = c;
+        }
+    }
+
     /**
      * Skip characters until past the requested string. If it is not found, we
      * are left at the end of the source.
@@ -509,6 +951,521 @@ public class JSONTokener {
         return c;
     }
 
+    private void nextLiteral(String rest) {
+        for (int i = 0; i < rest.length(); i++) {
+            if (next() != rest.charAt(i)) {
+                throw syntaxError("Invalid literal.");
+            }
+        }
+    }
+
+    /**
+     * Scans a number in the RFC 8259 form (an optional minus sign, an integer
+     * part without leading zeros, an optional fraction and an optional
+     * exponent) straight from the characters, without intermediate Strings for
+     * integers and for decimals of up to 15 significant digits. The first
+     * character has been consumed already.<br>
+     * The result types are the ones <code>NumberUtils.createNumber</code>
+     * yields once stored in a JSON value: Integer, Long or BigInteger for
+     * integers, Double or BigDecimal (when a double would lose precision) for
+     * decimals. A lenient scan of a number too large for a BigDecimal yields
+     * its text, like the legacy parser did.
+     *
+     * @param c      the first character of the number.
+     * @param strict true to reject anything that is not a valid number, false
+     *               to return null when the text is not a plain number (the
+     *               characters read are then left in numberBuffer and the
+     *               character that stopped the scan in numberNext).
+     */
+    private Object scanNumber(char c, boolean strict) {
+        this.numberLength = 0;
+        boolean negative = c == '-';
+        boolean integral = true;
+        boolean valid = true;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        int exponent = 0;
+        if (negative) {
+            appendNumberChar(c);
+            c = next();
+        }
+        if (c == '0') {
+            appendNumberChar(c);
+            c = next();
+            if (c >= '0' && c <= '9') {
+                if (strict) {
+                    throw syntaxError("Leading zeros are not allowed.");
+                }
+                valid = false;
+            }
+        } else if (c >= '1' && c <= '9') {
+            do {
+                appendNumberChar(c);
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                digits++;
+                c = next();
+            } while (c >= '0' && c <= '9');
+        } else {
+            valid = false;
+        }
+        if (valid && c == '.') {
+            integral = false;
+            appendNumberChar(c);
+            c = next();
+            valid = c >= '0' && c <= '9';
+            while (c >= '0' && c <= '9') {
+                appendNumberChar(c);
+                if (digits > 0 || c != '0') {
+                    if (digits < 19) {
+                        mantissa = mantissa * 10 + (c - '0');
+                    }
+                    digits++;
+                }
+                fractionDigits++;
+                c = next();
+            }
+        }
+        if (valid && (c == 'e' || c == 'E')) {
+            integral = false;
+            appendNumberChar(c);
+            c = next();
+            boolean negativeExponent = c == '-';
+            if (c == '-' || c == '+') {
+                appendNumberChar(c);
+                c = next();
+            }
+            valid = c >= '0' && c <= '9';
+            while (c >= '0' && c <= '9') {
+                appendNumberChar(c);
+                if (exponent < 100000) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+                c = next();
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        int end = this.numberLength;
+        if (!strict) {
+            // the lenient parser trims unquoted text, then expects a delimiter
+            while (valid && c == ' ') {
+                appendNumberChar(c);
+                c = next();
+            }
+            if (!valid || (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0)) {
+                this.numberNext = c;
+                return null;
+            }
+        } else if (!valid) {
+            throw syntaxError("Expected a digit.");
+        }
+        if (c != 0 || more()) {
+            back();
+        }
+
+        if (integral) {
+            if (digits <= 18) {
+                long value = negative ? -mantissa : mantissa;
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return Integer.valueOf((int) value);
+                }
+                return Long.valueOf(value);
+            }
+            BigInteger value = new BigInteger(new String(this.numberBuffer, 0, end));
+            return value.bitLength() < 64 ? (Number) Long.valueOf(value.longValue()) : value;
+        }
+        if (digits <= 15) {
+            int scale = exponent - fractionDigits;
+            double value = -1d;
+            if (mantissa == 0) {
+                value = 0d;
+            } else if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+                value = mantissa * POWERS_OF_TEN[scale];
+            } else if (scale < 0 && -scale < POWERS_OF_TEN.length) {
+                value = mantissa / POWERS_OF_TEN[-scale];
+            }
+            // a single rounding gives the correctly rounded double; above 2^53
+            // Double.toString() may not print it back as the same decimal, in
+            // which case createNumber() answers with a BigDecimal
+            if (value >= 0d && value < MAX_EXACT_DOUBLE) {
+                return Double.valueOf(negative ? -value : value);
+            }
+        }
+        String s = new String(this.numberBuffer, 0, end);
+        try {
+            return NumberUtils.createNumber(s);
+        } catch (NumberFormatException nfe) {
+            if (strict) {
+                throw syntaxError("Invalid number.");
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Returns the number that starts at the last character read as a slice of
+     * the source, or null when the source is not a String or when the number
+     * is not a plain JSON number, in which case nothing is consumed.
+     */
+    private LazyNumber nextLazyNumber(boolean strict) {
+        if (!this.sliceable) {
+            return null;
+        }
+        String s = this.mySource;
+        int length = s.length();
+        int start = this.myIndex - 1;
+        int end = plainNumberEnd(s, start, length);
+        if (end < 0 || end - start > this.maxNumberLength) {
+            return null;
+        }
+        if (!strict) {
+            int i = end;
+            while (i < length && s.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < length && s.charAt(i) >= ' ' && ",:]}/\\\"[{;=#".indexOf(s.charAt(i)) < 0) {
+                return null;
+            }
+        }
+        this.myIndex = end;
+        return new LazyNumber(s, start, end);
+    }
+
+    /**
+     * Returns the end of the JSON number that starts at index i of s, or -1
+     * if there is no number there or if it has a very large exponent, which
+     * is left to scanNumber().
+     */
+    private static int plainNumberEnd(String s, int i, int length) {
+        if (i < length && s.charAt(i) == '-') {
+            i++;
+        }
+        if (i < length && s.charAt(i) == '0') {
+            i++;
+            if (i < length && isDigit(s.charAt(i))) {
+                return -1;
+            }
+        } else {
+            int digits = i;
+            while (i < length && isDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i == digits) {
+                return -1;
+            }
+        }
+        if (i < length && s.charAt(i) == '.') {
+            int digits = ++i;
+            while (i < length && isDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i == digits) {
+                return -1;
+            }
+        }
+        if (i < length && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            int digits = i;
+            while (i < length && isDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i == digits || i - digits > 5) {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Returns the object or array whose opening bracket has just been read as
+     * a slice of the source, or null when the source is not a String or when
+     * the text is not plain JSON (comments, functions, single quotes, unquoted
+     * text, mismatched brackets, misplaced colons or commas or any other
+     * lenient form), in which case nothing is consumed.<br>
+     * The slice is found by a structural skim that checks the brackets, keys,
+     * colons and commas and skips strings, its contents are only parsed when
+     * the value is needed.
+     */
+    private LazyJSON nextLazyJSON(JsonConfig jsonConfig) {
+        if (!this.sliceable || this.limited || !(this.projection == null ? jsonConfig.getProjection() == null : this.projection.isAll())) {
+            return null;
+        }
+        String s = this.mySource;
+        int start = this.myIndex - 1;
+        // true for an object, false for an array, one per open bracket
+        boolean[] objects = new boolean[16];
+        int depth = 0;
+        int state = SKIM_VALUE;
+        for (int i = start, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    continue;
+                case '{':
+                case '[':
+                    if (state != SKIM_VALUE && state != SKIM_VALUE_OR_END) {
+                        return null;
+                    }
+                    if (depth == objects.length) {
+                        objects = Arrays.copyOf(objects, depth * 2);
+                    }
+                    objects[depth++] = c == '{';
+                    state = c == '{' ? SKIM_KEY_OR_END : SKIM_VALUE_OR_END;
+                    break;
+                case '}':
+                case ']':
+                    if (objects[depth - 1] != (c == '}')) {
+                        return null;
+                    }
+                    if (state != SKIM_COMMA_OR_END && state != (c == '}' ? SKIM_KEY_OR_END : SKIM_VALUE_OR_END)) {
+                        return null;
+                    }
+                    if (--depth == 0) {
+                        this.myIndex = i + 1;
+                        return new LazyJSON(s, start, i + 1, jsonConfig);
+                    }
+                    state = SKIM_COMMA_OR_END;
+                    break;
+                case ',':
+                    if (state != SKIM_COMMA_OR_END) {
+                        return null;
+                    }
+                    state = objects[depth - 1] ? SKIM_KEY : SKIM_VALUE;
+                    break;
+                case ':':
+                    if (state != SKIM_COLON) {
+                        return null;
+                    }
+                    state = SKIM_VALUE;
+                    break;
+                case '"':
+                    if (state == SKIM_KEY || state == SKIM_KEY_OR_END) {
+                        state = SKIM_COLON;
+                    } else if (state == SKIM_VALUE || state == SKIM_VALUE_OR_END) {
+                        state = SKIM_COMMA_OR_END;
+                    } else {
+                        return null;
+                    }
+                    for (i++; i < length && s.charAt(i) != '"'; i++) {
+                        if (s.charAt(i) == '\\') {
+                            i++;
+                        } else if (s.charAt(i) < ' ') {
+                            return null;
+                        }
+                    }
+                    if (i >= length) {
+                        return null;
+                    }
+                    break;
+                default:
+                    // a literal or a number, anything else is lenient syntax
+                    if (state != SKIM_VALUE && state != SKIM_VALUE_OR_END) {
+                        return null;
+                    }
+                    int end;
+                    if (s.startsWith("true", i)) {
+                        end = i + 4;
+                    } else if (s.startsWith("null", i)) {
+                        end = i + 4;
+                    } else if (s.startsWith("false", i)) {
+                        end = i + 5;
+                    } else {
+                        end = plainNumberEnd(s, i, length);
+                        if (end < 0) {
+                            return null;
+                        }
+                    }
+                    if (end < length && ",]} \t\n\r".indexOf(s.charAt(end)) < 0) {
+                        return null;
+                    }
+                    i = end - 1;
+                    state = SKIM_COMMA_OR_END;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the double quoted string whose opening quote has just been read
+     * as a slice of the source, or null when the source is not a String or
+     * when the string has characters that need to be escaped, in which case
+     * nothing is consumed. The "null" string is never sliced as it is
+     * converted to JSONNull by the JSON values.
+     */
+    private LazyString nextLazyString() {
+        if (!this.sliceable) {
+            return null;
+        }
+        String s = this.mySource;
+        int start = this.myIndex;
+        char b = 0;
+        for (int i = start, length = (int) Math.min(s.length(), (long) start + this.maxStringLength); i < length; i++) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                if (i - start == 4 && s.startsWith("null", start)) {
+                    return null;
+                }
+                this.myIndex = i + 1;
+                return new LazyString(s, start, i);
+            }
+            if (c < ' ' || c == '\\' || (c == '/' && b == '<')) {
+                return null;
+            }
+            b = c;
+        }
+        return null;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void appendNumberChar(char c) {
+        if (this.numberLength == this.maxNumberLength) {
+            throw limitError("Maximum number length of " + this.maxNumberLength + " exceeded");
+        }
+        if (this.numberLength == this.numberBuffer.length) {
+            char[] grown = new char[this.numberLength * 2];
+            System.arraycopy(this.numberBuffer, 0, grown, 0, this.numberLength);
+            this.numberBuffer = grown;
+        }
+        this.numberBuffer[this.numberLength++] = c;
+    }
+
+    /**
+     * Parses s from index start in the given radix, like
+     * <code>Integer.parseInt</code> does, but returns null instead of
+     * throwing when s is not a valid int in that radix.
+     */
+    private static Integer parseInteger(String s, int start, int radix) {
+        int length = s.length();
+        boolean negative = false;
+        if (start < length && (s.charAt(start) == '-' || s.charAt(start) == '+')) {
+            negative = s.charAt(start) == '-';
+            start++;
+        }
+        if (start >= length) {
+            return null;
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0) {
+                return null;
+            }
+            value = value * radix + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                return null;
+            }
+        }
+        value = negative ? -value : value;
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? Integer.valueOf((int) value) : null;
+    }
+
+    /**
+     * Enters an object or array: applies the parsing limits of the JsonConfig
+     * to the rest of the parse, then checks the nesting depth and the length
+     * of the input. Every call must be matched by a call to
+     * <code>exit</code>, even when it throws.
+     *
+     * @throws JSONLimitException if a limit is exceeded.
+     * @see JsonConfig#setMaxDepth(int)
+     */
+    public void enter(JsonConfig jsonConfig) {
+        this.depth++;
+        this.maxDepth = limit(jsonConfig.getMaxDepth());
+        this.maxLength = limit(jsonConfig.getMaxLength());
+        this.maxMembers = limit(jsonConfig.getMaxMembers());
+        this.maxNumberLength = limit(jsonConfig.getMaxNumberLength());
+        this.maxStringLength = limit(jsonConfig.getMaxStringLength());
+        this.limited = this.maxDepth != Integer.MAX_VALUE || this.maxLength != Integer.MAX_VALUE
+            || this.maxMembers != Integer.MAX_VALUE || this.maxNumberLength != Integer.MAX_VALUE
+            || this.maxStringLength != Integer.MAX_VALUE;
+        if (this.depth > this.maxDepth) {
+            throw limitError("Maximum nesting depth of " + this.maxDepth + " exceeded");
+        }
+        checkLength();
+    }
+
+    /**
+     * Exits the object or array entered last.
+     */
+    public void exit() {
+        this.depth--;
+    }
+
+    /**
+     * Checks the number of members read so far in the current object or
+     * array, and the length of the input.
+     *
+     * @param count the number of members read, including the current one.
+     *
+     * @throws JSONLimitException if a limit is exceeded.
+     */
+    public void checkMembers(int count) {
+        if (count > this.maxMembers) {
+            throw limitError("Maximum number of members of " + this.maxMembers + " exceeded");
+        }
+        checkLength();
+    }
+
+    /**
+     * Returns the maximum length of a string, Integer.MAX_VALUE if not
+     * limited. Subclasses scanning strings on their own must not return longer
+     * ones, see {@link #stringLimitError()}.
+     */
+    protected int getMaxStringLength() {
+        return this.maxStringLength;
+    }
+
+    /**
+     * Returns the length of the input read so far, or of the whole input when
+     * it is held in memory. Checked against {@link JsonConfig#getMaxLength()}.
+     */
+    protected long inputLength() {
+        return this.mySource.length();
+    }
+
+    /**
+     * Make a JSONLimitException to signal that a string is too long.
+     */
+    protected JSONException stringLimitError() {
+        return limitError("Maximum string length of " + this.maxStringLength + " exceeded");
+    }
+
+    /**
+     * Make a JSONLimitException to signal that a parsing limit is exceeded.
+     * Unlike syntax errors its message never includes the source.
+     *
+     * @param message The error message.
+     *
+     * @return A JSONLimitException object, suitable for throwing
+     */
+    public JSONException limitError(String message) {
+        // toString() of String sources prints the whole source
+        return new JSONLimitException(message + (this.sliceable ? " at character " + this.myIndex : toString()));
+    }
+
+    private void checkLength() {
+        if (this.maxLength != Integer.MAX_VALUE && inputLength() > this.maxLength) {
+            throw limitError("Maximum input length of " + this.maxLength + " exceeded");
+        }
+    }
+
+    private static int limit(int max) {
+        return max > 0 ? max : Integer.MAX_VALUE;
+    }
+
     /**
      * Make a JSONException to signal a syntax error.
      *
@@ -218,14 +218,23 @@ public final class JSONUtils {
      * If null it will return JSONNull.getInstance().hashCode().<br>
      * If value is JSON, JSONFunction or String, value.hashCode is returned,
      * otherwise the value is transformed to a String an its hashcode is
-     * returned.
+     * returned. Integral numbers and booleans are hashed without building the
+     * String, the result is the same.
      */
     public static int hashCode(Object value) {
+        if (value instanceof LazyValue) {
+            value = ((LazyValue) value).getValue();
+        }
         if (value == null) {
             return JSONNull.getInstance()
                 .hashCode();
         } else if (value instanceof JSON || value instanceof String || value instanceof JSONFunction) {
             return value.hashCode();
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+            || value instanceof Byte) {
+            return decimalHashCode(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue() ? "true".hashCode() : "false".hashCode();
         } else {
             return String.valueOf(value)
                 .hashCode();
@@ -732,6 +741,9 @@ public final class JSONUtils {
     }
 
     public static String valueToCanonicalString(Object value) {
+        if (value instanceof LazyValue) {
+            value = ((LazyValue) value).getValue();
+        }
         if (value == null || isNull(value)) {
             return "null";
         }
@@ -767,6 +779,9 @@ public final class JSONUtils {
      * @throws JSONException If the object contains an invalid number.
      */
     public static String valueToString(Object value, int indentFactor, int indent) {
+        if (value instanceof LazyValue) {
+            value = ((LazyValue) value).getValue();
+        }
         if (value == null || isNull(value)) {
             return "null";
         }
@@ -791,6 +806,29 @@ public final class JSONUtils {
         return quote(value.toString());
     }
 
+    /**
+     * Returns <code>String.valueOf(value).hashCode()</code>, computed from the
+     * decimal digits of value.
+     */
+    private static int decimalHashCode(long value) {
+        if (value == Long.MIN_VALUE) {
+            return String.valueOf(value)
+                .hashCode();
+        }
+        long digits = value < 0 ? -value : value;
+        int hash = 0;
+        int weight = 1;
+        do {
+            hash += ('0' + (int) (digits % 10)) * weight;
+            weight *= 31;
+            digits /= 10;
+        } while (digits != 0);
+        if (value < 0) {
+            hash += '-' * weight;
+        }
+        return hash;
+    }
+
     /**
      * Finds out if n represents a BigInteger
      *
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A JSON object or array kept as a slice of the source text until it is
+ * needed, see {@link JsonConfig#setLazyTree(boolean)}.<br>
+ * The slice is parsed with the configuration of the parse that produced it;
+ * syntax errors inside the slice are reported when it is parsed.
+ */
+public final class LazyJSON implements LazyValue {
+    private final String source;
+    private final int start;
+    private final int end;
+    private final JsonConfig jsonConfig;
+    private JSON value;
+
+    /**
+     * Creates a value from the characters between start (inclusive) and end
+     * (exclusive) of source, which must start with '{' or '[' and end with the
+     * matching bracket.
+     */
+    public LazyJSON(String source, int start, int end, JsonConfig jsonConfig) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.jsonConfig = jsonConfig;
+    }
+
+    public Object getValue() {
+        return getJSON();
+    }
+
+    /**
+     * Returns the parsed JSONObject or JSONArray.
+     */
+    public JSON getJSON() {
+        if (value == null) {
+            JSONTokener tokener = new JSONTokener(source, start);
+            tokener.setProjection(JSONProjection.ALL);
+            if (source.charAt(start) == '{') {
+                value = JSONObject.fromObject(tokener, jsonConfig);
+            } else {
+                value = JSONArray.fromObject(tokener, jsonConfig);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns a value for the same slice that does not share the parsed
+     * JSONObject or JSONArray: a deep copy of it if this value was parsed
+     * already, the copy is parsed on its own otherwise.
+     */
+    public LazyJSON copy() {
+        LazyJSON copy = new LazyJSON(source, start, end, jsonConfig);
+        if (value instanceof JSONObject) {
+            copy.value = ((JSONObject) value).deepCopy();
+        } else if (value instanceof JSONArray) {
+            copy.value = ((JSONArray) value).deepCopy();
+        }
+        return copy;
+    }
+
+    /**
+     * Returns true if the slice is an array.
+     */
+    public boolean isArray() {
+        return source.charAt(start) == '[';
+    }
+
+    public String toJSONString() {
+        return value != null ? value.toString() : source.substring(start, end);
+    }
+
+    public Writer write(Writer writer) throws IOException {
+        if (value != null) {
+            return value.write(writer);
+        }
+        writer.write(source, start, end - start);
+        return writer;
+    }
+
+    public String toString() {
+        return toJSONString();
+    }
+}
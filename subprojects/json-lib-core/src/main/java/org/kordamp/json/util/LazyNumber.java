@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A JSON number kept as a slice of the source text until its value is needed.
+ * The value has the type the parser would have produced: Integer, Long,
+ * BigInteger, Double or BigDecimal.
+ */
+public final class LazyNumber extends Number implements LazyValue {
+    private static final long serialVersionUID = 5193034371256587218L;
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+    private Number value;
+
+    /**
+     * Creates a number from the characters between start (inclusive) and end
+     * (exclusive) of source, which must follow the JSON number grammar.
+     */
+    public LazyNumber(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Object getValue() {
+        return getNumber();
+    }
+
+    /**
+     * Returns the decoded number.
+     */
+    public Number getNumber() {
+        if (value == null) {
+            value = JSONUtils.transformNumber(NumberUtils.createNumber(source.subSequence(start, end)
+                .toString()));
+        }
+        return value;
+    }
+
+    public int intValue() {
+        return getNumber().intValue();
+    }
+
+    public long longValue() {
+        return getNumber().longValue();
+    }
+
+    public float floatValue() {
+        return getNumber().floatValue();
+    }
+
+    public double doubleValue() {
+        return getNumber().doubleValue();
+    }
+
+    public String toJSONString() {
+        return source.subSequence(start, end)
+            .toString();
+    }
+
+    public Writer write(Writer writer) throws IOException {
+        if (source instanceof String) {
+            writer.write((String) source, start, end - start);
+        } else {
+            writer.append(source, start, end);
+        }
+        return writer;
+    }
+
+    public boolean equals(Object obj) {
+        return obj instanceof LazyNumber && getNumber().equals(((LazyNumber) obj).getNumber());
+    }
+
+    public int hashCode() {
+        return getNumber().hashCode();
+    }
+
+    public String toString() {
+        return getNumber().toString();
+    }
+}
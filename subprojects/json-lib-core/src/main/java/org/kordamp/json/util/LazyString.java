@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A JSON string without escape sequences, kept as a slice of the source text
+ * until it is needed as a String.
+ */
+public final class LazyString implements CharSequence, LazyValue {
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+    private String value;
+
+    /**
+     * Creates a string from the characters between start (inclusive) and end
+     * (exclusive) of source, the quotes excluded. The characters must not
+     * need to be escaped.
+     */
+    public LazyString(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return source.charAt(start + index);
+    }
+
+    public CharSequence subSequence(int from, int to) {
+        return toString().subSequence(from, to);
+    }
+
+    public Object getValue() {
+        return toString();
+    }
+
+    public String toJSONString() {
+        return new StringBuilder(end - start + 2).append('"')
+            .append(source, start, end)
+            .append('"')
+            .toString();
+    }
+
+    public Writer write(Writer writer) throws IOException {
+        writer.write('"');
+        if (source instanceof String) {
+            writer.write((String) source, start, end - start);
+        } else {
+            writer.append(source, start, end);
+        }
+        writer.write('"');
+        return writer;
+    }
+
+    public boolean equals(Object obj) {
+        return obj instanceof LazyString && toString().equals(obj.toString());
+    }
+
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    public String toString() {
+        if (value == null) {
+            value = source.subSequence(start, end)
+                .toString();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSONString;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A parsed value that has not been decoded yet, see
+ * {@link org.kordamp.json.JsonConfig#setLazyValues(boolean)}.<br>
+ * JSONObject and JSONArray replace a LazyValue by its decoded value the first
+ * time it is read; its JSON text is the original text of the value.
+ */
+public interface LazyValue extends JSONString {
+    /**
+     * Returns the decoded value: a String, a Number, a JSONObject or a
+     * JSONArray.
+     */
+    Object getValue();
+
+    /**
+     * Writes the JSON text of this value, the original text if it has not been
+     * decoded.
+     */
+    Writer write(Writer writer) throws IOException;
+}
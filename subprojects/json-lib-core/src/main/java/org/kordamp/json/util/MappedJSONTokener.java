@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A Utf8JSONTokener that reads an UTF-8 encoded file through memory-mapped
+ * windows.<br>
+ * The source bytes stay in the page cache instead of the heap. Files larger
+ * than a single mapping (2 GB) are read as consecutive chunks; each new chunk
+ * starts at the earliest byte the tokener may still need, so tokens that
+ * span a chunk boundary are read transparently.<br>
+ * The tokener must be closed to release the file channel. Mappings that are
+ * still referenced remain valid until they are garbage collected.
+ */
+public class MappedJSONTokener extends Utf8JSONTokener implements Closeable {
+    /**
+     * Default size of a mapped chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int chunkSize;
+
+    /**
+     * Construct a MappedJSONTokener for an UTF-8 encoded file.
+     *
+     * @param path the file to read.
+     *
+     * @throws JSONException if the file can not be opened.
+     */
+    public MappedJSONTokener(Path path) {
+        this(path, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Construct a MappedJSONTokener for an UTF-8 encoded file.
+     *
+     * @param path      the file to read.
+     * @param chunkSize the maximum number of bytes mapped at once.
+     *
+     * @throws JSONException if the file can not be opened.
+     */
+    public MappedJSONTokener(Path path, int chunkSize) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+        if (chunkSize < 8) {
+            throw new IllegalArgumentException("chunkSize must be at least 8");
+        }
+        this.chunkSize = chunkSize;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.size = this.channel.size();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        init();
+    }
+
+    public void close() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    protected ByteBuffer window(long offset) {
+        if (offset >= this.size) {
+            return null;
+        }
+        try {
+            return this.channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                Math.min(this.chunkSize, this.size - offset));
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONLimitException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * A push parser for UTF-8 encoded JSON text arriving in chunks, as read from a
+ * non-blocking channel or delivered by a reactive stream. Chunks are handed
+ * over with <code>feed</code>, and <code>next</code> reports whether a value
+ * is available or more input is needed, so the caller never blocks.
+ * <p/>
+ * <pre>
+ * NonBlockingJSONParser parser = new NonBlockingJSONParser(jsonConfig);
+ * // each time bytes arrive
+ * parser.feed(buffer);
+ * while (parser.next() == NonBlockingJSONParser.Event.VALUE) {
+ *     handle(parser.getValue());
+ * }
+ * // once the connection is closed
+ * parser.endOfInput();</pre>
+ * <p/>
+ * The input is a sequence of JSONObjects, JSONArrays and nulls, back-to-back
+ * or separated by whitespace. Chunks are scanned by a small state machine that
+ * only tracks brackets and strings to find where each value ends; the bytes of
+ * a complete value are then parsed with a {@link Utf8JSONTokener}, straight
+ * from the chunk when the value does not span several of them. Syntax errors
+ * inside a value are reported by <code>next</code> in place of that value,
+ * the values following it are still parsed.
+ * <p/>
+ * Instances are not thread safe.
+ */
+public class NonBlockingJSONParser {
+    /**
+     * The outcomes of {@link NonBlockingJSONParser#next()}.
+     */
+    public enum Event {
+        /**
+         * A value is available through <code>getValue</code>.
+         */
+        VALUE,
+        /**
+         * No complete value is buffered, <code>feed</code> must be called.
+         */
+        NEED_MORE_INPUT,
+        /**
+         * Every value has been returned and the input has ended.
+         */
+        END_OF_INPUT
+    }
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private final JsonConfig jsonConfig;
+    /**
+     * Complete values (JSON) and syntax errors (JSONException), in order.
+     */
+    private final Deque<Object> values = new ArrayDeque<Object>();
+    /**
+     * Bytes of the current value received in previous chunks.
+     */
+    private byte[] pending = new byte[256];
+    private int pendingLength;
+    private boolean inValue;
+    private int depth;
+    /**
+     * Characters of "null" matched so far, 0 if not reading a null.
+     */
+    private int literal;
+    /**
+     * The quote of the string being read, 0 if not in a string.
+     */
+    private byte quote;
+    private boolean escaped;
+    /**
+     * The last structural byte read in the current value.
+     */
+    private byte last;
+    private long offset;
+    private boolean ended;
+    private JSON value;
+
+    /**
+     * Creates a parser with a default configuration.
+     */
+    public NonBlockingJSONParser() {
+        this(new JsonConfig());
+    }
+
+    /**
+     * Creates a parser.
+     *
+     * @param jsonConfig the configuration used to build each value.
+     */
+    public NonBlockingJSONParser(JsonConfig jsonConfig) {
+        this.jsonConfig = jsonConfig != null ? jsonConfig : new JsonConfig();
+    }
+
+    /**
+     * Consumes the remaining bytes of a chunk. Values completed by the chunk
+     * become available through <code>next</code>, the bytes of an incomplete
+     * value are kept until the following chunks complete it.
+     *
+     * @throws JSONException if the input has ended or if a byte between values
+     *                       does not start a JSON value, a JSONLimitException if
+     *                       a value spanning several chunks is longer than
+     *                       {@link JsonConfig#getMaxLength()}.
+     */
+    public void feed(ByteBuffer bytes) {
+        if (ended) {
+            throw new JSONException("Input has already ended.");
+        }
+        boolean strict = jsonConfig.isStrictMode();
+        int start = bytes.position();
+        int limit = bytes.limit();
+        int valueStart = start;
+        for (int i = start; i < limit; i++) {
+            byte b = bytes.get(i);
+            if (!inValue) {
+                switch (b) {
+                    case ' ':
+                    case '\t':
+                    case '\n':
+                    case '\r':
+                        continue;
+                    case '{':
+                    case '[':
+                        depth = 1;
+                        last = b;
+                        break;
+                    case 'n':
+                        literal = 1;
+                        break;
+                    default:
+                        throw new JSONException("Expected '{', '[' or null at byte " + (offset + i - start) + ".");
+                }
+                inValue = true;
+                valueStart = i;
+            } else if (literal > 0) {
+                if (b != NULL[literal]) {
+                    throw new JSONException("Invalid literal at byte " + (offset + i - start) + ".");
+                }
+                if (++literal == NULL.length) {
+                    literal = 0;
+                    inValue = false;
+                    pendingLength = 0;
+                    values.add(JSONNull.getInstance());
+                }
+            } else if (quote != 0) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == quote) {
+                    quote = 0;
+                }
+            } else {
+                switch (b) {
+                    case ' ':
+                    case '\t':
+                    case '\n':
+                    case '\r':
+                        continue;
+                    case '\'':
+                        if (strict || ":,;=>[{".indexOf(last) < 0) {
+                            break;
+                        }
+                        // fall through
+                    case '"':
+                        quote = b;
+                        break;
+                    case '{':
+                    case '[':
+                        depth++;
+                        break;
+                    case '}':
+                    case ']':
+                        if (--depth == 0) {
+                            inValue = false;
+                            complete(bytes, valueStart, i + 1);
+                            continue;
+                        }
+                        break;
+                    default:
+                        // part of a value
+                }
+                last = b;
+            }
+        }
+        if (inValue) {
+            append(bytes, valueStart, limit);
+        }
+        offset += limit - start;
+        // called on Buffer, ByteBuffer only overrides it since Java 9
+        ((Buffer) bytes).position(limit);
+    }
+
+    /**
+     * Signals that no more chunks will be fed.
+     *
+     * @throws JSONException if the input ended inside a value.
+     */
+    public void endOfInput() {
+        ended = true;
+        if (inValue) {
+            inValue = false;
+            throw new JSONException("Unexpected end of input at byte " + offset + ".");
+        }
+    }
+
+    /**
+     * Advances to the next complete value.
+     *
+     * @return VALUE if a value is available through <code>getValue</code>,
+     * NEED_MORE_INPUT if more chunks are needed, END_OF_INPUT once every value
+     * has been returned after <code>endOfInput</code>.
+     *
+     * @throws JSONException if the next value is not valid JSON.
+     */
+    public Event next() {
+        value = null;
+        Object next = values.poll();
+        if (next instanceof JSONException) {
+            throw (JSONException) next;
+        }
+        if (next != null) {
+            value = (JSON) next;
+            return Event.VALUE;
+        }
+        return ended ? Event.END_OF_INPUT : Event.NEED_MORE_INPUT;
+    }
+
+    /**
+     * Returns the value reached by the last call to <code>next</code>, null if
+     * it did not return VALUE.
+     */
+    public JSON getValue() {
+        return value;
+    }
+
+    /**
+     * Parses a value ending at <code>end</code> in the chunk.
+     */
+    private void complete(ByteBuffer bytes, int from, int end) {
+        ByteBuffer source;
+        if (pendingLength == 0) {
+            source = bytes.duplicate();
+            ((Buffer) source).limit(end);
+            ((Buffer) source).position(from);
+        } else {
+            append(bytes, from, end);
+            source = ByteBuffer.wrap(pending, 0, pendingLength);
+            pendingLength = 0;
+        }
+        try {
+            values.add(JSONSerializer.toJSON(source, jsonConfig));
+        } catch (JSONException jsone) {
+            values.add(jsone);
+        }
+    }
+
+    private void append(ByteBuffer bytes, int from, int end) {
+        int length = end - from;
+        int maxLength = jsonConfig.getMaxLength();
+        if (maxLength > 0 && pendingLength + length > maxLength) {
+            throw new JSONLimitException("Maximum input length of " + maxLength + " exceeded at byte "
+                + (offset + end - bytes.position()) + ".");
+        }
+        if (pendingLength + length > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + length));
+        }
+        ByteBuffer source = bytes.duplicate();
+        ((Buffer) source).limit(end);
+        ((Buffer) source).position(from);
+        source.get(pending, pendingLength, length);
+        pendingLength += length;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list used to hold the elements of a frozen JSONArray.<br>
+ * Elements are kept in leaves of up to {@link #WIDTH} values, below branches
+ * of up to {@link #WIDTH} children that record the size of each subtree. All
+ * leaves sit at the same depth, so reading an element and every edit take
+ * O(log n) steps. {@link #with(int, Object)}, {@link #plus(Object)} and
+ * {@link #without(int)} return a new list that copies only the nodes on the
+ * path to the edited element and shares every other node with this list. A
+ * removal merges a node with its neighbour once both fit in a single node, so
+ * lists keep their depth as they shrink.<br>
+ * The mutators inherited from List throw an UnsupportedOperationException.
+ */
+public final class PersistentList extends AbstractList<Object> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 4117416227357938226L;
+    /**
+     * Largest number of values in a leaf and of children in a branch.
+     */
+    public static final int WIDTH = 32;
+    private static final PersistentList EMPTY = new PersistentList(new Leaf(new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentList(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static PersistentList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list holding the values of a collection in iteration order,
+     * built with full nodes.
+     */
+    public static PersistentList of(Collection<?> values) {
+        if (values instanceof PersistentList) {
+            return (PersistentList) values;
+        }
+        Object[] array = values.toArray();
+        if (array.length == 0) {
+            return EMPTY;
+        }
+        Node[] level = new Node[(array.length + WIDTH - 1) / WIDTH];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = new Leaf(Arrays.copyOfRange(array, i * WIDTH, Math.min(array.length, (i + 1) * WIDTH)));
+        }
+        while (level.length > 1) {
+            Node[] parents = new Node[(level.length + WIDTH - 1) / WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = new Branch(Arrays.copyOfRange(level, i * WIDTH, Math.min(level.length, (i + 1) * WIDTH)));
+            }
+            level = parents;
+        }
+        return new PersistentList(level[0], array.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Object get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.childAt(index);
+            index -= branch.offset(child);
+            node = branch.children[child];
+        }
+        return ((Leaf) node).values[index];
+    }
+
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a list with the element at index replaced.
+     *
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public PersistentList with(int index, Object value) {
+        checkIndex(index);
+        return new PersistentList(set(root, index, value), size);
+    }
+
+    /**
+     * Returns a list with a value appended.
+     */
+    public PersistentList plus(Object value) {
+        Node[] nodes = append(root, value);
+        return new PersistentList(nodes.length == 1 ? nodes[0] : new Branch(nodes), size + 1);
+    }
+
+    /**
+     * Returns a list without the element at index, the following elements are
+     * shifted down.
+     *
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public PersistentList without(int index) {
+        checkIndex(index);
+        Node node = remove(root, index);
+        if (node == null) {
+            return EMPTY;
+        }
+        while (node instanceof Branch && ((Branch) node).children.length == 1) {
+            node = ((Branch) node).children[0];
+        }
+        return new PersistentList(node, size - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static Node set(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] values = ((Leaf) node).values.clone();
+            values[index] = value;
+            return new Leaf(values);
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childAt(index);
+        Node[] children = branch.children.clone();
+        children[child] = set(children[child], index - branch.offset(child), value);
+        return new Branch(children, branch.sizes);
+    }
+
+    /**
+     * Appends to the last leaf below node, returns the copy of node followed
+     * by a new node of the same height when node had no room left.
+     */
+    private static Node[] append(Node node, Object value) {
+        if (node instanceof Leaf) {
+            Object[] values = ((Leaf) node).values;
+            if (values.length == WIDTH) {
+                return new Node[]{node, new Leaf(new Object[]{value})};
+            }
+            Object[] copy = Arrays.copyOf(values, values.length + 1);
+            copy[values.length] = value;
+            return new Node[]{new Leaf(copy)};
+        }
+        Node[] children = ((Branch) node).children;
+        int last = children.length - 1;
+        Node[] nodes = append(children[last], value);
+        if (nodes.length == 2 && children.length == WIDTH) {
+            Node[] copy = children.clone();
+            copy[last] = nodes[0];
+            return new Node[]{new Branch(copy), new Branch(new Node[]{nodes[1]})};
+        }
+        Node[] copy = Arrays.copyOf(children, last + nodes.length);
+        System.arraycopy(nodes, 0, copy, last, nodes.length);
+        return new Node[]{new Branch(copy)};
+    }
+
+    /**
+     * Returns node without the element at index, null if it had no other.
+     */
+    private static Node remove(Node node, int index) {
+        if (node instanceof Leaf) {
+            Object[] values = ((Leaf) node).values;
+            if (values.length == 1) {
+                return null;
+            }
+            return new Leaf(removeAt(values, index));
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childAt(index);
+        Node replacement = remove(branch.children[child], index - branch.offset(child));
+        Node[] children;
+        if (replacement == null) {
+            if (branch.children.length == 1) {
+                return null;
+            }
+            children = (Node[]) removeAt(branch.children, child);
+        } else {
+            children = branch.children.clone();
+            children[child] = replacement;
+            int neighbour = child + 1 < children.length ? child + 1 : child - 1;
+            if (neighbour >= 0 && replacement.width() + children[neighbour].width() <= WIDTH) {
+                int left = Math.min(child, neighbour);
+                children[left] = children[left].merge(children[left + 1]);
+                children = (Node[]) removeAt(children, left + 1);
+            }
+        }
+        return new Branch(children);
+    }
+
+    private static Object[] removeAt(Object[] array, int index) {
+        Object[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private abstract static class Node implements Serializable {
+        private static final long serialVersionUID = -6417254938310867571L;
+
+        /**
+         * Number of values or children held directly by this node.
+         */
+        abstract int width();
+
+        /**
+         * Returns a node holding the contents of this node followed by those
+         * of a node of the same height.
+         */
+        abstract Node merge(Node next);
+    }
+
+    private static final class Leaf extends Node {
+        private static final long serialVersionUID = 2893340166519683957L;
+        private final Object[] values;
+
+        Leaf(Object[] values) {
+            this.values = values;
+        }
+
+        int width() {
+            return values.length;
+        }
+
+        Node merge(Node next) {
+            Object[] nextValues = ((Leaf) next).values;
+            Object[] merged = Arrays.copyOf(values, values.length + nextValues.length);
+            System.arraycopy(nextValues, 0, merged, values.length, nextValues.length);
+            return new Leaf(merged);
+        }
+    }
+
+    private static final class Branch extends Node {
+        private static final long serialVersionUID = -1750431893606328095L;
+        private final Node[] children;
+        /**
+         * Number of values below each child and the ones before it.
+         */
+        private final int[] sizes;
+
+        Branch(Node[] children) {
+            this.children = children;
+            this.sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i] instanceof Leaf ? ((Leaf) children[i]).values.length : ((Branch) children[i]).total();
+                sizes[i] = total;
+            }
+        }
+
+        Branch(Node[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        int total() {
+            return sizes[sizes.length - 1];
+        }
+
+        int childAt(int index) {
+            int child = 0;
+            while (sizes[child] <= index) {
+                child++;
+            }
+            return child;
+        }
+
+        int offset(int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+
+        int width() {
+            return children.length;
+        }
+
+        Node merge(Node next) {
+            Node[] nextChildren = ((Branch) next).children;
+            Node[] merged = Arrays.copyOf(children, children.length + nextChildren.length);
+            System.arraycopy(nextChildren, 0, merged, children.length, nextChildren.length);
+            return new Branch(merged);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable insertion ordered map of String keys used to hold the
+ * properties of a frozen JSONObject.<br>
+ * Entries are kept in insertion order in a {@link PersistentList}, a hash
+ * array mapped trie maps each key to the position of its entry. Both are
+ * edited by path copying, so {@link #with(String, Object)} and
+ * {@link #without(String)} take O(log n) steps and return a new map sharing
+ * all but a few nodes with this map. A removal leaves a hole in the entry
+ * list, the map is rebuilt once holes outnumber entries, which keeps removals
+ * O(log n) amortized. Null keys are not supported, null values are.<br>
+ * The mutators inherited from Map throw an UnsupportedOperationException.
+ */
+public final class PersistentOrderedMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = -2035480725069254623L;
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentOrderedMap EMPTY = new PersistentOrderedMap(null, PersistentList.empty(), 0);
+
+    /**
+     * Maps keys to the position of their entry, null when the map is empty.
+     */
+    private final Node index;
+    /**
+     * Entries in insertion order, null for a removed one.
+     */
+    private final PersistentList entries;
+    private final int size;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    private PersistentOrderedMap(Node index, PersistentList entries, int size) {
+        this.index = index;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    public static PersistentOrderedMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map holding the entries of a map in iteration order.
+     */
+    public static PersistentOrderedMap of(Map<String, ?> map) {
+        if (map instanceof PersistentOrderedMap) {
+            return (PersistentOrderedMap) map;
+        }
+        PersistentOrderedMap result = EMPTY;
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(Object key) {
+        return position(key) >= 0;
+    }
+
+    public Object get(Object key) {
+        int position = position(key);
+        return position < 0 ? null : ((Map.Entry) entries.get(position)).getValue();
+    }
+
+    public Object put(String key, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void putAll(Map<? extends String, ?> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Returns a map with a key set to a value. A new key goes after all the
+     * others, an existing one keeps its position.
+     */
+    public PersistentOrderedMap with(String key, Object value) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        Map.Entry<String, Object> entry = new SimpleImmutableEntry<String, Object>(key, value);
+        int position = position(key);
+        if (position >= 0) {
+            return new PersistentOrderedMap(index, entries.with(position, entry), size);
+        }
+        int hash = key.hashCode();
+        Node root = index == null ? new BitmapNode(0, new Object[0]) : index;
+        root = root.put(0, hash, key, entries.size());
+        return new PersistentOrderedMap(root, entries.plus(entry), size + 1);
+    }
+
+    /**
+     * Returns a map without a key, this map if it has no such key.
+     */
+    public PersistentOrderedMap without(String key) {
+        int position = position(key);
+        if (position < 0) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        PersistentOrderedMap result = new PersistentOrderedMap(index.remove(0, key.hashCode(), key),
+            entries.with(position, null), size - 1);
+        if (result.entries.size() > result.size * 2) {
+            PersistentOrderedMap compacted = EMPTY;
+            for (Map.Entry<String, Object> entry : result.entrySet()) {
+                compacted = compacted.with(entry.getKey(), entry.getValue());
+            }
+            return compacted;
+        }
+        return result;
+    }
+
+    private int position(Object key) {
+        if (index == null || !(key instanceof String)) {
+            return -1;
+        }
+        Integer position = index.find(0, key.hashCode(), (String) key);
+        return position == null ? -1 : position.intValue();
+    }
+
+    private static int bit(int shift, int hash) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] insertPair(Object[] array, int i, Object key, Object value) {
+        Object[] copy = new Object[array.length + 2];
+        System.arraycopy(array, 0, copy, 0, i);
+        copy[i] = key;
+        copy[i + 1] = value;
+        System.arraycopy(array, i, copy, i + 2, array.length - i);
+        return copy;
+    }
+
+    private static Object[] removePair(Object[] array, int i) {
+        Object[] copy = new Object[array.length - 2];
+        System.arraycopy(array, 0, copy, 0, i);
+        System.arraycopy(array, i + 2, copy, i, copy.length - i);
+        return copy;
+    }
+
+    private static Object[] replace(Object[] array, int i, Object value) {
+        Object[] copy = array.clone();
+        copy[i] = value;
+        return copy;
+    }
+
+    private abstract static class Node implements Serializable {
+        private static final long serialVersionUID = 8035786524683411260L;
+
+        abstract Integer find(int shift, int hash, String key);
+
+        abstract Node put(int shift, int hash, String key, int position);
+
+        /**
+         * Returns this node without a key, null if it had no other.
+         */
+        abstract Node remove(int shift, int hash, String key);
+    }
+
+    /**
+     * A trie node with a slot for each 5 bit chunk of the hashes found in its
+     * bitmap. A slot holds a key and its position, or null and a child node.
+     */
+    private static final class BitmapNode extends Node {
+        private static final long serialVersionUID = -8730853431282616573L;
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        Integer find(int shift, int hash, String key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if (array[i] == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(array[i]) ? (Integer) array[i + 1] : null;
+        }
+
+        Node put(int shift, int hash, String key, int position) {
+            int bit = bit(shift, hash);
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                return new BitmapNode(bitmap | bit, insertPair(array, i, key, position));
+            }
+            Object k = array[i];
+            if (k == null) {
+                Node child = ((Node) array[i + 1]).put(shift + BITS, hash, key, position);
+                return new BitmapNode(bitmap, replace(array, i + 1, child));
+            }
+            if (k.equals(key)) {
+                return new BitmapNode(bitmap, replace(array, i + 1, position));
+            }
+            String other = (String) k;
+            int otherHash = other.hashCode();
+            Node child;
+            if (otherHash == hash) {
+                child = new CollisionNode(hash, new Object[]{other, array[i + 1], key, position});
+            } else {
+                child = new BitmapNode(0, new Object[0]).put(shift + BITS, otherHash, other, (Integer) array[i + 1])
+                    .put(shift + BITS, hash, key, position);
+            }
+            Object[] copy = replace(array, i, null);
+            copy[i + 1] = child;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        Node remove(int shift, int hash, String key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object k = array[i];
+            if (k == null) {
+                Node child = ((Node) array[i + 1]).remove(shift + BITS, hash, key);
+                if (child != null) {
+                    return new BitmapNode(bitmap, replace(array, i + 1, child));
+                }
+            } else if (!k.equals(key)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, i));
+        }
+    }
+
+    /**
+     * Holds the keys whose hashes are all equal, in pairs of key and position.
+     */
+    private static final class CollisionNode extends Node {
+        private static final long serialVersionUID = 3652201834726014519L;
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Integer find(int shift, int hash, String key) {
+            int i = indexOf(key);
+            return i < 0 ? null : (Integer) array[i + 1];
+        }
+
+        Node put(int shift, int hash, String key, int position) {
+            if (hash != this.hash) {
+                return new BitmapNode(bit(shift, this.hash), new Object[]{null, this}).put(shift, hash, key, position);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                return new CollisionNode(hash, replace(array, i + 1, position));
+            }
+            return new CollisionNode(hash, insertPair(array, array.length, key, position));
+        }
+
+        Node remove(int shift, int hash, String key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            return array.length == 2 ? null : new CollisionNode(hash, removePair(array, i));
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        public int size() {
+            return size;
+        }
+
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry entry = (Map.Entry) o;
+            int position = position(entry.getKey());
+            return position >= 0 && entries.get(position)
+                .equals(entry);
+        }
+
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private int next = skipRemoved(0);
+
+                private int skipRemoved(int position) {
+                    while (position < entries.size() && entries.get(position) == null) {
+                        position++;
+                    }
+                    return position;
+                }
+
+                public boolean hasNext() {
+                    return next < entries.size();
+                }
+
+                public Map.Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, Object> entry = (Map.Entry<String, Object>) entries.get(next);
+                    next = skipRemoved(next + 1);
+                    return entry;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of numbers kept in a primitive array, used by JSONArray to hold the
+ * contents of int[], long[] and double[] arrays without boxing every
+ * element.<br>
+ * Elements are boxed when read through the List interface, the same way a
+ * JSONArray stores them: Integer for ints, Integer or Long for longs and Double
+ * for doubles. Adding or setting an element that the primitive array cannot
+ * hold copies the contents into a regular list that is used from then on, see
+ * {@link #isPrimitive()}.
+ */
+public abstract class PrimitiveList extends AbstractList<Object> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = -6044806135472395911L;
+
+    private int size;
+    /**
+     * The elements once promoted, null while they are kept in the array.
+     */
+    private List<Object> objects;
+
+    PrimitiveList(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Creates a list holding a copy of an int array.
+     */
+    public static PrimitiveList of(int[] values) {
+        return new OfInt(Arrays.copyOf(values, values.length));
+    }
+
+    /**
+     * Creates a list holding a copy of a long array.
+     */
+    public static PrimitiveList of(long[] values) {
+        return new OfLong(Arrays.copyOf(values, values.length));
+    }
+
+    /**
+     * Creates a list holding a copy of a double array.
+     */
+    public static PrimitiveList of(double[] values) {
+        return new OfDouble(Arrays.copyOf(values, values.length));
+    }
+
+    /**
+     * Returns true while the elements are kept in the primitive array. The
+     * primitive accessors may only be called in that state.
+     */
+    public boolean isPrimitive() {
+        return objects == null;
+    }
+
+    /**
+     * Returns an element as an int, as <code>Number.intValue()</code> would.
+     */
+    public abstract int getInt(int index);
+
+    /**
+     * Returns an element as a long, as <code>Number.longValue()</code> would.
+     */
+    public abstract long getLong(int index);
+
+    /**
+     * Returns an element as a double, as <code>Number.doubleValue()</code>
+     * would.
+     */
+    public abstract double getDouble(int index);
+
+    /**
+     * Returns the JSON text of an element, the same text
+     * {@link JSONUtils#numberToString(Number)} makes of its boxed value.
+     */
+    public abstract String toString(int index);
+
+    /**
+     * Returns an independent list holding a copy of the primitive array.
+     */
+    public abstract PrimitiveList copy();
+
+    public Object get(int index) {
+        if (objects != null) {
+            return objects.get(index);
+        }
+        checkIndex(index);
+        return box(index);
+    }
+
+    public int size() {
+        return objects != null ? objects.size() : size;
+    }
+
+    public Object set(int index, Object element) {
+        if (objects == null) {
+            checkIndex(index);
+            if (accepts(element)) {
+                Object previous = box(index);
+                store(index, element);
+                return previous;
+            }
+            promote();
+        }
+        return objects.set(index, element);
+    }
+
+    public void add(int index, Object element) {
+        if (objects == null) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (accepts(element)) {
+                if (size == capacity()) {
+                    resize(Math.max(size + (size >> 1), 10));
+                }
+                Object array = array();
+                System.arraycopy(array, index, array, index + 1, size - index);
+                store(index, element);
+                size++;
+                modCount++;
+                return;
+            }
+            promote();
+        }
+        objects.add(index, element);
+        modCount++;
+    }
+
+    public Object remove(int index) {
+        modCount++;
+        if (objects != null) {
+            return objects.remove(index);
+        }
+        checkIndex(index);
+        Object previous = box(index);
+        Object array = array();
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        modCount++;
+        if (objects != null) {
+            objects.clear();
+        } else {
+            size = 0;
+        }
+    }
+
+    void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    abstract Object box(int index);
+
+    abstract boolean accepts(Object element);
+
+    /**
+     * Stores an element accepted by {@link #accepts(Object)}.
+     */
+    abstract void store(int index, Object element);
+
+    abstract Object array();
+
+    abstract int capacity();
+
+    abstract void resize(int capacity);
+
+    private void promote() {
+        List<Object> list = new ArrayList<Object>(Math.max(size + (size >> 1), 10));
+        for (int i = 0; i < size; i++) {
+            list.add(box(i));
+        }
+        objects = list;
+        size = 0;
+        resize(0);
+    }
+
+    private static final class OfInt extends PrimitiveList {
+        private static final long serialVersionUID = 7417466153541577316L;
+        private int[] values;
+
+        OfInt(int[] values) {
+            super(values.length);
+            this.values = values;
+        }
+
+        public int getInt(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public long getLong(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public double getDouble(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public String toString(int index) {
+            checkIndex(index);
+            return Integer.toString(values[index]);
+        }
+
+        public PrimitiveList copy() {
+            return new OfInt(Arrays.copyOf(values, size()));
+        }
+
+        Object box(int index) {
+            return Integer.valueOf(values[index]);
+        }
+
+        boolean accepts(Object element) {
+            return element instanceof Integer;
+        }
+
+        void store(int index, Object element) {
+            values[index] = (Integer) element;
+        }
+
+        Object array() {
+            return values;
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class OfLong extends PrimitiveList {
+        private static final long serialVersionUID = -2164539164396337613L;
+        private long[] values;
+
+        OfLong(long[] values) {
+            super(values.length);
+            this.values = values;
+        }
+
+        public int getInt(int index) {
+            checkIndex(index);
+            return (int) values[index];
+        }
+
+        public long getLong(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public double getDouble(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public String toString(int index) {
+            checkIndex(index);
+            return Long.toString(values[index]);
+        }
+
+        public PrimitiveList copy() {
+            return new OfLong(Arrays.copyOf(values, size()));
+        }
+
+        Object box(int index) {
+            long value = values[index];
+            // same as JSONUtils.transformNumber()
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return Integer.valueOf((int) value);
+            }
+            return Long.valueOf(value);
+        }
+
+        boolean accepts(Object element) {
+            if (element instanceof Long) {
+                // a Long in the int range would be read back as an Integer
+                long value = (Long) element;
+                return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE;
+            }
+            return element instanceof Integer;
+        }
+
+        void store(int index, Object element) {
+            values[index] = ((Number) element).longValue();
+        }
+
+        Object array() {
+            return values;
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class OfDouble extends PrimitiveList {
+        private static final long serialVersionUID = 5270337460866124474L;
+        private double[] values;
+
+        OfDouble(double[] values) {
+            super(values.length);
+            this.values = values;
+        }
+
+        public int getInt(int index) {
+            checkIndex(index);
+            return (int) values[index];
+        }
+
+        public long getLong(int index) {
+            checkIndex(index);
+            return (long) values[index];
+        }
+
+        public double getDouble(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public String toString(int index) {
+            checkIndex(index);
+            return JSONUtils.doubleToString(values[index]);
+        }
+
+        public PrimitiveList copy() {
+            return new OfDouble(Arrays.copyOf(values, size()));
+        }
+
+        Object box(int index) {
+            return Double.valueOf(values[index]);
+        }
+
+        boolean accepts(Object element) {
+            return element instanceof Double;
+        }
+
+        void store(int index, Object element) {
+            values[index] = (Double) element;
+        }
+
+        Object array() {
+            return values;
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
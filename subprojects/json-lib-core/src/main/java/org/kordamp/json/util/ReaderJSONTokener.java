@@ -0,0 +1,331 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSONException;
+import org.kordamp.json.regexp.RegexpUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSONTokener that pulls its characters from a <code>Reader</code> (or an
+ * <code>InputStream</code>) through a fixed-size, refillable buffer instead of
+ * a fully materialized String.<br>
+ * Only the current buffer is kept in memory, so parsing a large payload costs
+ * the resulting JSON tree plus the buffer. A small amount of already consumed
+ * characters is retained on every refill so that <code>back()</code> keeps
+ * working across buffer boundaries.<br>
+ * The tokener does not close the underlying reader.
+ */
+public class ReaderJSONTokener extends JSONTokener {
+    /**
+     * Default size of the character buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * Number of consumed characters kept when the buffer is refilled.
+     */
+    private static final int HISTORY = 16;
+
+    private final Reader reader;
+    private char[] buffer;
+    /**
+     * Index of the next character in the buffer.
+     */
+    private int position;
+    /**
+     * Number of valid characters in the buffer.
+     */
+    private int limit;
+    /**
+     * Absolute index of buffer[0] in the stream.
+     */
+    private long offset;
+    /**
+     * Buffer index that must survive a refill, -1 if none.
+     */
+    private int mark = -1;
+    private boolean eof;
+    private boolean started;
+
+    /**
+     * Construct a ReaderJSONTokener from a reader.
+     *
+     * @param reader the source of characters.
+     */
+    public ReaderJSONTokener(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Construct a ReaderJSONTokener from a reader.
+     *
+     * @param reader     the source of characters.
+     * @param bufferSize the size of the character buffer.
+     */
+    public ReaderJSONTokener(Reader reader, int bufferSize) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader is null.");
+        }
+        if (bufferSize <= HISTORY * 2) {
+            throw new IllegalArgumentException("bufferSize must be greater than " + (HISTORY * 2));
+        }
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Construct a ReaderJSONTokener from an UTF-8 encoded input stream.
+     *
+     * @param inputStream the source of bytes.
+     */
+    public ReaderJSONTokener(InputStream inputStream) {
+        this(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Construct a ReaderJSONTokener from an input stream.
+     *
+     * @param inputStream the source of bytes.
+     * @param charset     the encoding of the stream.
+     */
+    public ReaderJSONTokener(InputStream inputStream, Charset charset) {
+        this(new InputStreamReader(inputStream, charset), DEFAULT_BUFFER_SIZE);
+    }
+
+    public void back() {
+        if (this.position > 0) {
+            this.position -= 1;
+        }
+    }
+
+    /**
+     * Returns the number of characters read from the stream so far.
+     */
+    public int length() {
+        return (int) Math.min(Integer.MAX_VALUE, this.offset + this.limit);
+    }
+
+    /**
+     * Matches the remainder of the stream against a pattern. This method reads
+     * the rest of the stream into memory.
+     */
+    public boolean matches(String pattern) {
+        while (fill()) {
+            // read everything
+        }
+        return RegexpUtils.getMatcher(pattern)
+            .matches(new String(this.buffer, this.position, this.limit - this.position));
+    }
+
+    public boolean startsWith(String prefix) {
+        int n = prefix.length();
+        if (!ensure(n)) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (this.buffer[this.position + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean more() {
+        return this.position < this.limit || ensure(1);
+    }
+
+    public char next() {
+        if (this.position < this.limit || ensure(1)) {
+            return this.buffer[this.position++];
+        }
+        return 0;
+    }
+
+    public String next(int n) {
+        if (!ensure(n + 1)) {
+            throw syntaxError("Substring bounds error");
+        }
+        String s = new String(this.buffer, this.position, n);
+        this.position += n;
+        return s;
+    }
+
+    public String nextString(char quote) {
+        // fast path: the whole literal is in the buffer and has no escapes
+        int end = (int) Math.min(this.limit, (long) this.position + getMaxStringLength());
+        for (int i = this.position; i < end; i++) {
+            char c = this.buffer[i];
+            if (c == quote) {
+                String s = new String(this.buffer, this.position, i - this.position);
+                this.position = i + 1;
+                return s;
+            }
+            if (c == '\\' || c == '\n' || c == '\r') {
+                break;
+            }
+        }
+        return super.nextString(quote);
+    }
+
+    protected String nextSimpleString(char quote, SymbolTable symbols) {
+        int end = (int) Math.min(this.limit, (long) this.position + getMaxStringLength());
+        for (int i = this.position; i < end; i++) {
+            char c = this.buffer[i];
+            if (c == quote) {
+                String s = symbols.lookup(this.buffer, this.position, i);
+                this.position = i + 1;
+                return s;
+            }
+            if (c == '\\' || c < ' ') {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    protected long inputLength() {
+        return this.offset + this.limit;
+    }
+
+    public char peek() {
+        if (this.position < this.limit || ensure(1)) {
+            return this.buffer[this.position];
+        }
+        return 0;
+    }
+
+    /**
+     * Moves back to the first character of the stream. This is only possible
+     * while the first buffer has not been discarded.
+     *
+     * @throws JSONException if the start of the stream is no longer available.
+     */
+    public void reset() {
+        if (this.offset != 0) {
+            throw new JSONException("Can't reset a stream that has been consumed past its first buffer");
+        }
+        this.position = 0;
+    }
+
+    public void skipPast(String to) {
+        for (; ; ) {
+            if (startsWith(to)) {
+                this.position += to.length();
+                return;
+            }
+            if (next() == 0) {
+                return;
+            }
+        }
+    }
+
+    public char skipTo(char to) {
+        this.mark = this.position;
+        try {
+            char c;
+            do {
+                c = next();
+                if (c == 0) {
+                    this.position = this.mark;
+                    return c;
+                }
+            } while (c != to);
+            back();
+            return c;
+        } finally {
+            this.mark = -1;
+        }
+    }
+
+    public String toString() {
+        return " at character " + (this.offset + this.position);
+    }
+
+    /**
+     * Makes sure that at least n characters are available after the current
+     * position, reading from the stream if needed.
+     *
+     * @return false if the end of the stream was reached before n characters
+     * could be buffered.
+     */
+    private boolean ensure(int n) {
+        while (this.limit - this.position < n) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads more characters into the buffer, discarding consumed characters
+     * (except for a small history) and growing the buffer if it is full.
+     *
+     * @return false if the end of the stream has been reached.
+     */
+    private boolean fill() {
+        if (this.eof) {
+            return false;
+        }
+        int keep = this.mark >= 0 ? this.mark : Math.max(0, this.position - HISTORY);
+        if (keep > 0) {
+            System.arraycopy(this.buffer, keep, this.buffer, 0, this.limit - keep);
+            this.offset += keep;
+            this.position -= keep;
+            this.limit -= keep;
+            if (this.mark >= 0) {
+                this.mark -= keep;
+            }
+        }
+        if (this.limit == this.buffer.length) {
+            char[] b = new char[this.buffer.length * 2];
+            System.arraycopy(this.buffer, 0, b, 0, this.limit);
+            this.buffer = b;
+        }
+        try {
+            int read;
+            do {
+                read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            } while (read == 0);
+            if (read < 0) {
+                this.eof = true;
+                return false;
+            }
+            this.limit += read;
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        if (!this.started) {
+            // mimic JSONTokener(String), which trims leading whitespace
+            int start = 0;
+            while (start < this.limit && this.buffer[start] <= ' ') {
+                start++;
+            }
+            System.arraycopy(this.buffer, start, this.buffer, 0, this.limit - start);
+            this.limit -= start;
+            this.started = this.limit > 0;
+        }
+        return true;
+    }
+}
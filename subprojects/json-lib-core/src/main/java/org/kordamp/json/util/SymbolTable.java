@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded table of canonical Strings used by the tokeners to share a single
+ * String instance between all the occurrences of a key.<br>
+ * Lookups hash the characters where they are (a String, a char buffer or
+ * ASCII bytes) and only allocate a String the first time a key is seen. Once
+ * the table holds {@link #MAX_SIZE} symbols new keys are no longer retained,
+ * which bounds the memory taken by inputs with many distinct keys.<br>
+ * A SymbolTable is not thread safe, tokeners create one per parse.
+ */
+public class SymbolTable {
+    /**
+     * Maximum number of symbols retained by a table.
+     */
+    public static final int MAX_SIZE = 4096;
+
+    private String[] symbols = new String[64];
+    private int[] hashes = new int[64];
+    private int size;
+
+    /**
+     * Returns the number of symbols in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the canonical instance of a String.
+     */
+    public String intern(String s) {
+        int hash = s.hashCode();
+        int mask = symbols.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                return add(i, hash, s);
+            }
+            if (hashes[i] == hash && symbol.equals(s)) {
+                return symbol;
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the characters between start
+     * (inclusive) and end (exclusive) of a CharSequence.
+     */
+    public String lookup(CharSequence chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        int length = end - start;
+        int mask = symbols.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                return add(i, hash, chars.subSequence(start, end)
+                    .toString());
+            }
+            if (hashes[i] == hash && symbol.length() == length && matches(symbol, chars, start)) {
+                return symbol;
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the characters between start
+     * (inclusive) and end (exclusive) of a char array.
+     */
+    public String lookup(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int length = end - start;
+        int mask = symbols.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                return add(i, hash, new String(chars, start, length));
+            }
+            if (hashes[i] == hash && symbol.length() == length && matches(symbol, chars, start)) {
+                return symbol;
+            }
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the ASCII bytes between start
+     * (inclusive) and end (exclusive) of a buffer. All the bytes must be in
+     * the 0-127 range.
+     */
+    public String lookup(ByteBuffer bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes.get(i);
+        }
+        int length = end - start;
+        int mask = symbols.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String symbol = symbols[i];
+            if (symbol == null) {
+                char[] chars = new char[length];
+                for (int j = 0; j < length; j++) {
+                    chars[j] = (char) bytes.get(start + j);
+                }
+                return add(i, hash, new String(chars));
+            }
+            if (hashes[i] == hash && symbol.length() == length && matches(symbol, bytes, start)) {
+                return symbol;
+            }
+        }
+    }
+
+    private static boolean matches(String symbol, CharSequence chars, int start) {
+        for (int i = symbol.length() - 1; i >= 0; i--) {
+            if (symbol.charAt(i) != chars.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String symbol, char[] chars, int start) {
+        for (int i = symbol.length() - 1; i >= 0; i--) {
+            if (symbol.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String symbol, ByteBuffer bytes, int start) {
+        for (int i = symbol.length() - 1; i >= 0; i--) {
+            if (symbol.charAt(i) != bytes.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String add(int slot, int hash, String symbol) {
+        if (size >= MAX_SIZE) {
+            return symbol;
+        }
+        symbols[slot] = symbol;
+        hashes[slot] = hash;
+        if (++size * 2 > symbols.length) {
+            rehash();
+        }
+        return symbol;
+    }
+
+    private void rehash() {
+        String[] oldSymbols = symbols;
+        int[] oldHashes = hashes;
+        symbols = new String[oldSymbols.length * 2];
+        hashes = new int[symbols.length];
+        int mask = symbols.length - 1;
+        for (int j = 0; j < oldSymbols.length; j++) {
+            if (oldSymbols[j] != null) {
+                int i = oldHashes[j] & mask;
+                while (symbols[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                symbols[i] = oldSymbols[j];
+                hashes[i] = oldHashes[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,572 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import org.kordamp.json.JSONException;
+import org.kordamp.json.regexp.RegexpUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSONTokener that scans UTF-8 encoded bytes directly, without decoding the
+ * whole input to a String first.<br>
+ * Structural characters, numbers and literals are read straight from the
+ * bytes; only string literals are decoded, with a fast path for literals made
+ * of ASCII characters only. Malformed sequences are replaced with
+ * <code>U+FFFD</code>, as <code>new String(bytes, UTF_8)</code> would do. A
+ * leading byte order mark is skipped.<br>
+ * Positions reported in error messages are byte offsets.<br>
+ * Subclasses may feed the tokener with consecutive windows of a larger input
+ * by overriding {@link #window(long)}.
+ */
+public class Utf8JSONTokener extends JSONTokener {
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * The current window of bytes.
+     */
+    private ByteBuffer buffer;
+    /**
+     * Index of the next byte in the window.
+     */
+    private int position;
+    /**
+     * Number of valid bytes in the window.
+     */
+    private int limit;
+    /**
+     * Absolute offset of the first byte of the window.
+     */
+    private long offset;
+    /**
+     * Absolute offset of the first byte after the byte order mark.
+     */
+    private long start;
+    /**
+     * Low surrogate still to be returned by next(), 0 if none.
+     */
+    private char pending;
+    /**
+     * State before the last call to next(), restored by back().
+     */
+    private int previousPosition;
+    private char previousPending;
+    /**
+     * Window index that must survive a window change, -1 if none.
+     */
+    private int mark = -1;
+    private char[] chars = new char[64];
+
+    /**
+     * Construct a Utf8JSONTokener from an UTF-8 encoded byte array.
+     *
+     * @param bytes the source of bytes.
+     */
+    public Utf8JSONTokener(byte[] bytes) {
+        this(bytes, 0, bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Construct a Utf8JSONTokener from a region of an UTF-8 encoded byte array.
+     *
+     * @param bytes  the source of bytes.
+     * @param offset the index of the first byte to read.
+     * @param length the number of bytes to read.
+     */
+    public Utf8JSONTokener(byte[] bytes, int offset, int length) {
+        this(bytes == null ? null : ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Construct a Utf8JSONTokener from the remaining bytes of an UTF-8 encoded
+     * buffer. The buffer itself is not modified, heap and direct buffers are
+     * both supported.
+     *
+     * @param buffer the source of bytes.
+     */
+    public Utf8JSONTokener(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer is null.");
+        }
+        setWindow(buffer.slice(), 0);
+        skipByteOrderMark();
+    }
+
+    /**
+     * Construct a Utf8JSONTokener without bytes. Subclasses must override
+     * {@link #window(long)} and call {@link #init()} once they are ready to
+     * provide the first window.
+     */
+    protected Utf8JSONTokener() {
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Loads the window starting at the first byte of the input. Meant to be
+     * called by subclasses that use the no-arg constructor.
+     */
+    protected void init() {
+        ByteBuffer b = window(0);
+        if (b != null) {
+            setWindow(b, 0);
+        }
+        skipByteOrderMark();
+    }
+
+    /**
+     * Returns the window of bytes starting at the given absolute offset, or
+     * null if there are no bytes available at that offset. The returned buffer
+     * must have its position set to 0 and should hold more bytes than the
+     * previous window did from that offset on.<br>
+     * The default implementation returns null, the whole input is the window
+     * given to the constructor.
+     *
+     * @param offset absolute offset of the first byte of the window.
+     */
+    protected ByteBuffer window(long offset) {
+        return null;
+    }
+
+    public void back() {
+        this.position = this.previousPosition;
+        this.pending = this.previousPending;
+    }
+
+    /**
+     * Returns the number of bytes made available to the tokener so far.
+     */
+    public int length() {
+        return (int) Math.min(Integer.MAX_VALUE, this.offset + this.limit);
+    }
+
+    /**
+     * Matches the remainder of the input against a pattern. This method decodes
+     * the rest of the input into memory.
+     */
+    public boolean matches(String pattern) {
+        int p = this.position;
+        char pp = this.pending;
+        int pv = this.previousPosition;
+        char ppv = this.previousPending;
+        this.mark = p;
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (char c = next(); c != 0 || more(); c = next()) {
+                sb.append(c);
+            }
+            return RegexpUtils.getMatcher(pattern)
+                .matches(sb.toString());
+        } finally {
+            this.position = this.mark;
+            this.pending = pp;
+            this.previousPosition = pv;
+            this.previousPending = ppv;
+            this.mark = -1;
+        }
+    }
+
+    public boolean more() {
+        return this.pending != 0 || this.position < this.limit || ensure(1);
+    }
+
+    public char next() {
+        if (this.pending != 0) {
+            char c = this.pending;
+            this.previousPosition = this.position;
+            this.previousPending = c;
+            this.pending = 0;
+            return c;
+        }
+        if (this.position >= this.limit && !ensure(1)) {
+            return 0;
+        }
+        this.previousPosition = this.position;
+        this.previousPending = 0;
+        byte b = this.buffer.get(this.position);
+        if (b >= 0) {
+            this.position++;
+            return (char) b;
+        }
+        return decode();
+    }
+
+    public String next(int n) {
+        char[] cs = new char[n];
+        for (int i = 0; i < n; i++) {
+            char c = next();
+            if (c == 0 && !more()) {
+                throw syntaxError("Substring bounds error");
+            }
+            cs[i] = c;
+        }
+        if (!more()) {
+            throw syntaxError("Substring bounds error");
+        }
+        return new String(cs);
+    }
+
+    public char nextClean() {
+        if (this.pending == 0) {
+            // skip plain ASCII whitespace without going through next()
+            while (this.position < this.limit || ensure(1)) {
+                byte b = this.buffer.get(this.position);
+                if (b < 0 || b > ' ') {
+                    break;
+                }
+                this.position++;
+            }
+        }
+        return super.nextClean();
+    }
+
+    public String nextString(char quote) {
+        if (this.pending == 0 && this.buffer.hasArray()) {
+            // fast path: the whole literal is in the window and has no escapes
+            byte[] array = this.buffer.array();
+            int base = this.buffer.arrayOffset();
+            boolean ascii = true;
+            int end = (int) Math.min(this.limit, (long) this.position + getMaxStringLength());
+            for (int i = this.position; i < end; i++) {
+                byte b = array[base + i];
+                if (b == quote) {
+                    String s = new String(array, base + this.position, i - this.position,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                    this.position = i + 1;
+                    this.previousPosition = i;
+                    this.previousPending = 0;
+                    return s;
+                }
+                if (b == '\\' || b == '\n' || b == '\r') {
+                    break;
+                }
+                if (b < 0) {
+                    ascii = false;
+                }
+            }
+        } else if (this.pending == 0) {
+            // fast path for direct buffers: an ASCII literal with no escapes
+            char[] cs = this.chars;
+            int n = 0;
+            int end = (int) Math.min(this.limit, (long) this.position + getMaxStringLength());
+            for (int i = this.position; i < end; i++) {
+                byte b = this.buffer.get(i);
+                if (b == quote) {
+                    this.chars = cs;
+                    this.position = i + 1;
+                    this.previousPosition = i;
+                    this.previousPending = 0;
+                    return new String(cs, 0, n);
+                }
+                if (b == '\\' || b == '\n' || b == '\r' || b < 0) {
+                    break;
+                }
+                if (n == cs.length) {
+                    cs = grow(cs);
+                }
+                cs[n++] = (char) b;
+            }
+            this.chars = cs;
+        }
+
+        char[] cs = this.chars;
+        int n = 0;
+        for (; ; ) {
+            if (n > getMaxStringLength()) {
+                this.chars = cs;
+                throw stringLimitError();
+            }
+            char c = next();
+            switch (c) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw syntaxError("Unterminated string");
+                case '\\':
+                    c = next();
+                    switch (c) {
+                        case 'b':
+                            c = '\b';
+                            break;
+                        case 't':
+                            c = '\t';
+                            break;
+                        case 'n':
+                            c = '\n';
+                            break;
+                        case 'f':
+                            c = '\f';
+                            break;
+                        case 'r':
+                            c = '\r';
+                            break;
+                        case 'u':
+                            c = (char) Integer.parseInt(next(4), 16);
+                            break;
+                        case 'x':
+                            c = (char) Integer.parseInt(next(2), 16);
+                            break;
+                        default:
+                            // keep c
+                    }
+                    break;
+                default:
+                    if (c == quote) {
+                        this.chars = cs;
+                        return new String(cs, 0, n);
+                    }
+            }
+            if (n == cs.length) {
+                cs = grow(cs);
+            }
+            cs[n++] = c;
+        }
+    }
+
+    protected String nextSimpleString(char quote, SymbolTable symbols) {
+        if (this.pending != 0) {
+            return null;
+        }
+        int end = (int) Math.min(this.limit, (long) this.position + getMaxStringLength());
+        for (int i = this.position; i < end; i++) {
+            byte b = this.buffer.get(i);
+            if (b == quote) {
+                String s = symbols.lookup(this.buffer, this.position, i);
+                this.position = i + 1;
+                this.previousPosition = i;
+                this.previousPending = 0;
+                return s;
+            }
+            if (b == '\\' || b < ' ') {
+                // escapes, control characters and non ASCII bytes
+                return null;
+            }
+        }
+        return null;
+    }
+
+    protected long inputLength() {
+        return this.offset + this.limit;
+    }
+
+    public char peek() {
+        if (this.pending != 0) {
+            return this.pending;
+        }
+        if (this.position >= this.limit && !ensure(1)) {
+            return 0;
+        }
+        byte b = this.buffer.get(this.position);
+        if (b >= 0) {
+            return (char) b;
+        }
+        int pv = this.previousPosition;
+        char ppv = this.previousPending;
+        char c = next();
+        back();
+        this.previousPosition = pv;
+        this.previousPending = ppv;
+        return c;
+    }
+
+    /**
+     * Moves back to the first character of the input.
+     *
+     * @throws JSONException if the start of the input is no longer available.
+     */
+    public void reset() {
+        if (this.offset != 0) {
+            ByteBuffer b = window(0);
+            if (b == null) {
+                throw new JSONException("Can't reset a stream that has been consumed past its first window");
+            }
+            setWindow(b, 0);
+        }
+        this.position = (int) this.start;
+        this.pending = 0;
+        this.previousPosition = this.position;
+        this.previousPending = 0;
+    }
+
+    public boolean startsWith(String prefix) {
+        if (this.pending != 0) {
+            return prefix.length() == 0 || (prefix.charAt(0) == this.pending && prefix.length() == 1);
+        }
+        int n = prefix.length();
+        for (int i = 0; i < n; i++) {
+            if (prefix.charAt(i) >= 0x80) {
+                return startsWith(prefix.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (!ensure(n)) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (this.buffer.get(this.position + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void skipPast(String to) {
+        for (; ; ) {
+            if (startsWith(to)) {
+                for (int i = to.length(); i > 0; i--) {
+                    next();
+                }
+                return;
+            }
+            if (next() == 0 && !more()) {
+                return;
+            }
+        }
+    }
+
+    public char skipTo(char to) {
+        int p = this.position;
+        char pp = this.pending;
+        this.mark = p;
+        try {
+            char c;
+            do {
+                c = next();
+                if (c == 0 && !more()) {
+                    this.position = this.mark;
+                    this.pending = pp;
+                    return 0;
+                }
+            } while (c != to);
+            back();
+            return c;
+        } finally {
+            this.mark = -1;
+        }
+    }
+
+    public String toString() {
+        return " at byte " + (this.offset + this.position);
+    }
+
+    private static char[] grow(char[] cs) {
+        char[] grown = new char[cs.length * 2];
+        System.arraycopy(cs, 0, grown, 0, cs.length);
+        return grown;
+    }
+
+    private boolean startsWith(byte[] prefix) {
+        if (!ensure(prefix.length)) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (this.buffer.get(this.position + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the multi-byte sequence at the current position.
+     */
+    private char decode() {
+        int b = this.buffer.get(this.position) & 0xFF;
+        int n;
+        int cp;
+        if (b >= 0xC2 && b <= 0xDF) {
+            n = 2;
+            cp = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            n = 3;
+            cp = b & 0x0F;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            n = 4;
+            cp = b & 0x07;
+        } else {
+            this.position++;
+            return REPLACEMENT;
+        }
+        if (!ensure(n)) {
+            this.position++;
+            return REPLACEMENT;
+        }
+        // ensure() may have moved the window
+        this.previousPosition = this.position;
+        for (int i = 1; i < n; i++) {
+            int c = this.buffer.get(this.position + i);
+            if ((c & 0xC0) != 0x80) {
+                this.position += i;
+                return REPLACEMENT;
+            }
+            cp = (cp << 6) | (c & 0x3F);
+        }
+        if ((n == 3 && (cp < 0x800 || Character.isSurrogate((char) cp))) ||
+            (n == 4 && (cp < 0x10000 || cp > Character.MAX_CODE_POINT))) {
+            this.position += n;
+            return REPLACEMENT;
+        }
+        this.position += n;
+        if (n == 4) {
+            this.pending = Character.lowSurrogate(cp);
+            return Character.highSurrogate(cp);
+        }
+        return (char) cp;
+    }
+
+    /**
+     * Makes sure that at least n bytes are available after the current
+     * position, moving to a later window if needed.
+     *
+     * @return false if the end of the input was reached before n bytes
+     * were available.
+     */
+    private boolean ensure(int n) {
+        while (this.limit - this.position < n) {
+            int keep = Math.min(this.position, this.previousPosition);
+            if (this.mark >= 0) {
+                keep = Math.min(keep, this.mark);
+            }
+            ByteBuffer b = window(this.offset + keep);
+            if (b == null || b.limit() <= this.limit - keep) {
+                return false;
+            }
+            setWindow(b, this.offset + keep);
+        }
+        return true;
+    }
+
+    private void setWindow(ByteBuffer b, long newOffset) {
+        int shift = (int) (newOffset - this.offset);
+        this.buffer = b;
+        this.offset = newOffset;
+        this.limit = b.limit();
+        this.position -= shift;
+        this.previousPosition -= shift;
+        if (this.mark >= 0) {
+            this.mark -= shift;
+        }
+    }
+
+    private void skipByteOrderMark() {
+        if (startsWith(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF})) {
+            this.position += 3;
+            this.start = 3;
+        }
+        this.previousPosition = this.position;
+    }
+}
@@ -57,6 +57,16 @@ public class AllTests extends TestSuite {
         suite.addTest(new TestSuite(TestJSONObjectJdk15.class));
         suite.addTest(new TestSuite(TestJSONObjectWithProcessors.class));
         suite.addTest(new TestSuite(TestJSONSerializer.class));
+        suite.addTest(new TestSuite(TestJSONStrictMode.class));
+        suite.addTest(new TestSuite(TestJSONLazyValues.class));
+        suite.addTest(new TestSuite(TestJSONLazyTree.class));
+        suite.addTest(new TestSuite(TestJSONParallelParsing.class));
+        suite.addTest(new TestSuite(TestJSONProjection.class));
+        suite.addTest(new TestSuite(TestJSONLimits.class));
+        suite.addTest(new TestSuite(TestJSONParser.class));
+        suite.addTest(new TestSuite(TestJSONFreeze.class));
+        suite.addTest(new TestSuite(TestJSONSerializationCache.class));
+        suite.addTest(new TestSuite(TestJSONDeepCopy.class));
 
         suite.addTest(new TestSuite(TestUserSubmitted.class));
 
@@ -309,6 +309,40 @@ public class TestJSONArray extends TestCase {
         testJSONArray(new long[]{1, 2, 3}, "[1,2,3]");
     }
 
+    public void testConstructor_primitive_array_long_mixed() {
+        JSONArray jsonArray = JSONArray.fromObject(new long[]{1, 12345678901L});
+        assertEquals("[1,12345678901]", jsonArray.toString());
+        assertEquals(Integer.valueOf(1), jsonArray.get(0));
+        assertEquals(Long.valueOf(12345678901L), jsonArray.get(1));
+        assertEquals(12345678901L, jsonArray.getLong(1));
+        assertEquals(JSONArray.fromObject("[1,12345678901]"), jsonArray);
+    }
+
+    public void testConstructor_primitive_array_double_serialization() {
+        JSONArray jsonArray = JSONArray.fromObject(new double[]{1, 2.5, 1e20, -0.001});
+        assertEquals(JSONArray.fromObject(new Object[]{1d, 2.5d, 1e20d, -0.001d}).toString(), jsonArray.toString());
+        assertEquals("[1.0,2.5,1.0E20,-0.001]", jsonArray.toString(0));
+        StringWriter writer = new StringWriter();
+        try {
+            jsonArray.writeCanonical(writer);
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+        assertEquals("[1.0,2.5,1.0e20,-0.001]", writer.toString());
+        assertEquals(2, jsonArray.getInt(1));
+        assertEquals(2.5d, jsonArray.getDouble(1), 0d);
+    }
+
+    public void testConstructor_primitive_array_int_promoted() {
+        JSONArray jsonArray = JSONArray.fromObject(new int[]{1, 2, 3});
+        jsonArray.element(4);
+        jsonArray.element("x");
+        jsonArray.element(0, 5);
+        assertEquals("[5,2,3,4,\"x\"]", jsonArray.toString());
+        assertEquals(5, jsonArray.getInt(0));
+        assertEquals("x", jsonArray.getString(4));
+    }
+
     public void testConstructor_primitive_array_short() {
         testJSONArray(new short[]{1, 2, 3}, "[1,2,3]");
     }
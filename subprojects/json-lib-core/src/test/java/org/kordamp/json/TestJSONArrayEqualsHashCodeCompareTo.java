@@ -125,4 +125,31 @@ public class TestJSONArrayEqualsHashCodeCompareTo extends TestCase {
     public void testHashCode_different_elements_same_size() {
         assertFalse(values2.hashCode() == values3.hashCode());
     }
-}
\ No newline at end of file
+
+    public void testEquals_sameTypes() {
+        JSONArray array = JSONArray.fromObject("[1,2.5,\"a\",true,null,[1,{\"b\":2}]]");
+        assertEquals(array, JSONArray.fromObject(array.toString()));
+        assertFalse(array.equals(JSONArray.fromObject("[1,2.5,\"a\",true,null,[1,{\"b\":3}]]")));
+        assertFalse(array.equals(JSONArray.fromObject("[1,2.5,\"b\",true,null,[1,{\"b\":2}]]")));
+    }
+
+    public void testEquals_mixedTypes() {
+        assertEquals(new JSONArray().element(1), new JSONArray().element(1L));
+        assertEquals(new JSONArray().element(1), new JSONArray().element("1"));
+        assertEquals(new JSONArray().element("null"), new JSONArray().element(JSONNull.getInstance()));
+        assertFalse(new JSONArray().element(1)
+            .equals(new JSONArray().element(2L)));
+    }
+
+    public void testHashCode_cached() {
+        JSONArray array = JSONArray.fromObject("[[1,2]]");
+        JSONArray inner = array.getJSONArray(0);
+        array.setSerializationCached(true);
+        int hashCode = array.hashCode();
+        assertEquals(hashCode, array.hashCode());
+        inner.element(3);
+        assertFalse(hashCode == array.hashCode());
+        assertEquals(JSONArray.fromObject("[[1,2,3]]")
+            .hashCode(), array.hashCode());
+    }
+}
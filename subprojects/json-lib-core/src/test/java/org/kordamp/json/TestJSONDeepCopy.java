@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JsonEventListener;
+import org.kordamp.json.util.LazyJSON;
+
+public class TestJSONDeepCopy extends TestCase {
+    /**
+     * Objects and arrays that are copied next to values that are shared: a
+     * number, a null, a string that looks like JSON and a function.
+     */
+    private static final String COPIED_AND_SHARED = "{\"a\":1,\"b\":[1,{\"c\":\"d\"},[true]],\"e\":{\"f\":null},"
+        + "\"g\":\"[1,2]\",\"h\":function(){ return 1; }}";
+
+    public TestJSONDeepCopy(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONDeepCopy.class);
+    }
+
+    public void testCopyIsEqual() {
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED);
+        JSONObject copy = jsonObject.deepCopy();
+        assertEquals(jsonObject, copy);
+        assertEquals(jsonObject.toString(), copy.toString());
+        assertEquals("[1,2]", copy.get("g"));
+        assertSame(jsonObject.get("g"), copy.get("g"));
+    }
+
+    public void testCopyIsIndependent() {
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED);
+        JSONObject copy = jsonObject.deepCopy();
+        assertNotSame(jsonObject.getJSONArray("b"), copy.getJSONArray("b"));
+        copy.getJSONArray("b")
+            .getJSONObject(1)
+            .element("c", "x");
+        copy.getJSONObject("e")
+            .element("i", 2);
+        assertEquals("d", jsonObject.getJSONArray("b")
+            .getJSONObject(1)
+            .get("c"));
+        assertFalse(jsonObject.getJSONObject("e")
+            .has("i"));
+    }
+
+    public void testNoEvents() {
+        final int[] events = new int[1];
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.enableEventTriggering();
+        jsonConfig.addJsonEventListener(new JsonEventListener() {
+            public void onArrayEnd() {
+                events[0]++;
+            }
+
+            public void onArrayStart() {
+                events[0]++;
+            }
+
+            public void onElementAdded(int index, Object element) {
+                events[0]++;
+            }
+
+            public void onError(JSONException jsone) {
+            }
+
+            public void onObjectEnd() {
+                events[0]++;
+            }
+
+            public void onObjectStart() {
+                events[0]++;
+            }
+
+            public void onPropertySet(String key, Object value, boolean accumulated) {
+                events[0]++;
+            }
+
+            public void onWarning(String warning) {
+            }
+        });
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED, jsonConfig);
+        events[0] = 0;
+        jsonObject.deepCopy();
+        assertEquals(0, events[0]);
+    }
+
+    public void testNullObject() {
+        JSONObject copy = new JSONObject(true).deepCopy();
+        assertTrue(copy.isNullObject());
+    }
+
+    public void testFrozenSource() {
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED)
+            .freeze();
+        JSONObject copy = jsonObject.deepCopy();
+        assertFalse(copy.isFrozen());
+        assertFalse(copy.getJSONArray("b")
+            .isFrozen());
+        copy.element("a", 2);
+        copy.getJSONArray("b")
+            .element(4);
+        assertEquals(1, jsonObject.getInt("a"));
+        assertEquals(3, jsonObject.getJSONArray("b")
+            .size());
+    }
+
+    public void testArrays() {
+        JSONArray jsonArray = JSONArray.fromObject(new int[]{1, 2, 3});
+        jsonArray.setExpandElements(true);
+        JSONArray copy = jsonArray.deepCopy();
+        assertEquals(jsonArray, copy);
+        assertTrue(copy.isExpandElements());
+        copy.element(4);
+        copy.element(0, 5);
+        assertEquals("[1,2,3]", jsonArray.toString());
+        assertEquals("[5,2,3,4]", copy.toString());
+
+        JSONArray nested = JSONArray.fromObject("[[1],{\"a\":[2]}]");
+        JSONArray nestedCopy = nested.deepCopy();
+        nestedCopy.getJSONObject(1)
+            .getJSONArray("a")
+            .element(3);
+        assertEquals("[[1],{\"a\":[2]}]", nested.toString());
+        assertEquals("[[1],{\"a\":[2,3]}]", nestedCopy.toString());
+    }
+
+    public void testLazyTree() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setLazyTree(true);
+        JSONObject jsonObject = JSONObject.fromObject("{\"a\":{\"x\":1},\"b\":[1]}", jsonConfig);
+        JSONObject copy = jsonObject.deepCopy();
+        copy.getJSONObject("a")
+            .put("x", 99);
+        copy.getJSONArray("b")
+            .element(2);
+        assertEquals("{\"x\":1}", jsonObject.getJSONObject("a")
+            .toString());
+        assertEquals("[1]", jsonObject.getJSONArray("b")
+            .toString());
+        assertEquals("{\"a\":{\"x\":99},\"b\":[1,2]}", copy.toString());
+    }
+
+    public void testParsedLazyJSON() {
+        String text = "{\"x\":1}";
+        LazyJSON lazy = new LazyJSON(text, 0, text.length(), new JsonConfig());
+        ((JSONObject) lazy.getJSON()).element("x", 2);
+        LazyJSON copy = lazy.copy();
+        assertNotSame(lazy.getJSON(), copy.getJSON());
+        assertEquals("{\"x\":2}", copy.toString());
+        ((JSONObject) copy.getJSON()).element("x", 3);
+        assertEquals("{\"x\":2}", lazy.toString());
+    }
+
+    public void testSubtreesSharedByFrozenTrees() {
+        JSONObject base = JSONObject.fromObject(COPIED_AND_SHARED)
+            .freeze();
+        JSONObject derived = base.with("a", 2);
+        assertSame(base.get("b"), derived.get("b"));
+        JSONObject copy = derived.deepCopy();
+        assertNotSame(base.get("b"), copy.get("b"));
+        copy.getJSONArray("b")
+            .getJSONObject(1)
+            .element("c", "x");
+        assertEquals("d", base.getJSONArray("b")
+            .getJSONObject(1)
+            .get("c"));
+        assertEquals(JSONObject.fromObject(COPIED_AND_SHARED), base);
+    }
+
+    public void testFrozenPrimitiveArray() {
+        JSONArray jsonArray = JSONArray.fromObject(new double[]{1.5, 2})
+            .freeze();
+        JSONArray copy = jsonArray.deepCopy();
+        assertEquals(jsonArray, copy);
+        copy.element(0, 3);
+        assertEquals("[1.5,2.0]", jsonArray.toString());
+        assertEquals("[3,2.0]", copy.toString());
+    }
+
+    public void testCachedSubtreeIsNotLinkedToTheCopy() {
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED);
+        jsonObject.setSerializationCached(true);
+        String text = jsonObject.toString();
+        JSONObject copy = jsonObject.deepCopy();
+        assertFalse(copy.getJSONObject("e")
+            .isSerializationCached());
+        copy.getJSONObject("e")
+            .element("f", 1);
+        assertSame(text, jsonObject.toString());
+
+        copy.setSerializationCached(true);
+        String copyText = copy.toString();
+        jsonObject.getJSONObject("e")
+            .element("f", 2);
+        assertSame(copyText, copy.toString());
+        assertEquals(2, jsonObject.getJSONObject("e")
+            .getInt("f"));
+        assertTrue(jsonObject.toString()
+            .contains("\"e\":{\"f\":2}"));
+    }
+
+    public void testCopyDoesNotCacheSerialization() {
+        JSONObject jsonObject = JSONObject.fromObject(COPIED_AND_SHARED);
+        jsonObject.setSerializationCached(true);
+        jsonObject.toString();
+        assertFalse(jsonObject.deepCopy()
+            .isSerializationCached());
+    }
+}
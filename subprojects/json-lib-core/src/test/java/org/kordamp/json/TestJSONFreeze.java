@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JSONTokener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestJSONFreeze extends TestCase {
+    /**
+     * Objects and arrays nested in each other, with empty ones and nulls.
+     */
+    private static final String NESTED = "{\"a\":1,\"b\":[1,{\"c\":\"d\"},[true,[]]],\"e\":{\"f\":null,\"g\":{}}}";
+    /**
+     * Values a lazy parse keeps as slices: numbers, plain strings and nested
+     * objects and arrays.
+     */
+    private static final String SLICED_VALUES = "{\"n\":-12.5e3,\"s\":\"text\",\"big\":12345678901234567890,"
+        + "\"o\":{\"list\":[1,\"two\",{\"three\":3}]},\"a\":[[],{}]}";
+
+    public TestJSONFreeze(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONFreeze.class);
+    }
+
+    public void testFreezeIsDeep() {
+        JSONObject jsonObject = JSONObject.fromObject(NESTED);
+        assertFalse(jsonObject.isFrozen());
+        assertSame(jsonObject, jsonObject.freeze());
+        assertTrue(jsonObject.isFrozen());
+        assertTrue(jsonObject.getJSONArray("b").isFrozen());
+        assertTrue(jsonObject.getJSONArray("b").getJSONObject(1).isFrozen());
+        assertTrue(jsonObject.getJSONArray("b").getJSONArray(2).isFrozen());
+        assertTrue(jsonObject.getJSONObject("e").isFrozen());
+        assertTrue(jsonObject.getJSONObject("e").getJSONObject("g").isFrozen());
+        assertTrue(jsonObject.getJSONArray("b").getJSONArray(2).getJSONArray(1).isFrozen());
+        assertEquals(JSONObject.fromObject(NESTED), jsonObject);
+        assertEquals(jsonObject, JSONObject.fromObject(NESTED));
+    }
+
+    public void testObjectRejectsMutation() {
+        final JSONObject jsonObject = JSONObject.fromObject(NESTED).freeze();
+        assertRejected(() -> jsonObject.element("x", 1));
+        assertRejected(() -> jsonObject.put("a", 2));
+        assertRejected(() -> jsonObject.accumulate("a", 2));
+        assertRejected(() -> jsonObject.remove("a"));
+        assertRejected(jsonObject::clear);
+        assertRejected(() -> jsonObject.getJSONObject("e").element("f", 1));
+        assertRejected(() -> jsonObject.keySet().clear());
+        assertRejected(() -> ((Map.Entry) jsonObject.entrySet().iterator().next()).setValue(1));
+        assertRejected(() -> JSONObject.Impl.fromJSONTokener(new JSONTokener("{}"), new JsonConfig(), jsonObject));
+        assertEquals(JSONObject.fromObject(NESTED), jsonObject);
+    }
+
+    public void testArrayRejectsMutation() {
+        final JSONArray jsonArray = JSONArray.fromObject("[1,\"x\",{\"a\":[2]}]").freeze();
+        assertRejected(() -> jsonArray.element(3));
+        assertRejected(() -> jsonArray.add(0, "y"));
+        assertRejected(() -> jsonArray.set(0, 4));
+        assertRejected(() -> jsonArray.remove(0));
+        assertRejected(jsonArray::clear);
+        assertRejected(() -> jsonArray.setExpandElements(true));
+        assertRejected(() -> jsonArray.getJSONObject(2).getJSONArray("a").element(3));
+        assertRejected(() -> {
+            Iterator elements = jsonArray.iterator();
+            elements.next();
+            elements.remove();
+        });
+        assertEquals(JSONArray.fromObject("[1,\"x\",{\"a\":[2]}]"), jsonArray);
+    }
+
+    public void testPrimitiveArrays() {
+        final JSONArray doubles = JSONArray.fromObject(new double[]{1.5, 2}).freeze();
+        assertEquals(2, doubles.getInt(1));
+        assertEquals("[1.5,2.0]", doubles.toString());
+        assertRejected(() -> doubles.element(3d));
+        final JSONArray ints = JSONArray.fromObject(new int[]{3, 1, 2}).freeze();
+        assertSame(ints.toString(), ints.toString());
+        assertEquals(JSONArray.fromObject("[3,1,2]").hashCode(), ints.hashCode());
+        assertRejected(() -> ints.set(0, 4));
+        assertRejected(() -> ints.sort(null));
+        final JSONArray booleans = JSONArray.fromObject(new boolean[]{true, false}).freeze();
+        assertRejected(() -> booleans.remove(1));
+        assertEquals(JSONArray.fromObject("[true,false]"), booleans);
+    }
+
+    public void testMemoizedHashCodeAndString() {
+        JSONObject jsonObject = JSONObject.fromObject(NESTED);
+        int hashCode = jsonObject.hashCode();
+        String text = jsonObject.toString();
+        jsonObject.freeze();
+        assertEquals(hashCode, jsonObject.hashCode());
+        assertEquals(hashCode, jsonObject.hashCode());
+        assertEquals(text, jsonObject.toString());
+        assertSame(jsonObject.toString(), jsonObject.toString());
+        JSONArray jsonArray = jsonObject.getJSONArray("b");
+        assertSame(jsonArray.toString(), jsonArray.toString());
+        assertEquals(JSONArray.fromObject("[1,{\"c\":\"d\"},[true,[]]]").hashCode(), jsonArray.hashCode());
+    }
+
+    public void testLazyValuesAreDecoded() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setLazyValues(true);
+        jsonConfig.setLazyTree(true);
+        JSONObject jsonObject = JSONObject.fromObject(SLICED_VALUES, jsonConfig).freeze();
+        assertTrue(jsonObject.getJSONObject("o").getJSONArray("list").getJSONObject(2).isFrozen());
+        assertTrue(jsonObject.getJSONArray("a").getJSONObject(1).isFrozen());
+        assertEquals(JSONObject.fromObject(SLICED_VALUES), jsonObject);
+        // a number left as a slice would be written as -12.5e3
+        assertEquals(JSONObject.fromObject(SLICED_VALUES).toString(), jsonObject.toString());
+        assertEquals(Double.valueOf(-12500d), jsonObject.get("n"));
+        assertRejected(() -> jsonObject.getJSONObject("o").getJSONArray("list").element(4));
+    }
+
+    public void testToImmutableJSON() {
+        JSON json = JSONSerializer.toImmutableJSON(NESTED);
+        assertTrue(json.isFrozen());
+        assertSame(json, JSONSerializer.toImmutableJSON(json));
+        JSONObject mutable = JSONObject.fromObject(NESTED);
+        JSON copy = JSONSerializer.toImmutableJSON(mutable);
+        assertTrue(copy.isFrozen());
+        assertFalse(mutable.isFrozen());
+        assertEquals(mutable, copy);
+        assertSame(JSONNull.getInstance(), JSONSerializer.toImmutableJSON(null));
+        assertTrue(JSONNull.getInstance().isFrozen());
+    }
+
+    public void testAddingAFrozenValueCopiesIt() {
+        JSONObject frozen = JSONObject.fromObject("{\"a\":1}").freeze();
+        JSONObject jsonObject = new JSONObject().element("x", frozen);
+        jsonObject.getJSONObject("x").element("b", 2);
+        assertEquals(2, jsonObject.getJSONObject("x").size());
+        assertEquals(1, frozen.size());
+    }
+
+    public void testObjectWith() {
+        JSONObject base = JSONObject.fromObject(NESTED).freeze();
+        JSONObject derived = base.with("a", 2);
+        assertTrue(derived.isFrozen());
+        assertEquals(1, base.getInt("a"));
+        assertEquals(2, derived.getInt("a"));
+        assertSame(base.get("b"), derived.get("b"));
+        assertSame(base.get("e"), derived.get("e"));
+        assertEquals("{\"a\":2,\"b\":[1,{\"c\":\"d\"},[true,[]]],\"e\":{\"f\":null,\"g\":{}}}", derived.toString());
+
+        JSONObject nested = base.with("e", base.getJSONObject("e").with("h", new int[]{1, 2}));
+        assertEquals(JSONArray.fromObject("[1,2]"), nested.getJSONObject("e").get("h"));
+        assertTrue(nested.getJSONObject("e").getJSONArray("h").isFrozen());
+        assertFalse(base.getJSONObject("e").has("h"));
+        assertSame(base.get("b"), nested.get("b"));
+        assertSame(base.getJSONObject("e").get("g"), nested.getJSONObject("e").get("g"));
+
+        JSONObject value = JSONObject.fromObject("{\"y\":1}");
+        JSONObject added = base.with("z", value);
+        assertEquals("z", added.names().getString(3));
+        assertTrue(added.getJSONObject("z").isFrozen());
+        assertFalse(value.isFrozen());
+        assertRejected(() -> added.element("a", 3));
+    }
+
+    public void testObjectWithout() {
+        JSONObject base = JSONObject.fromObject(NESTED).freeze();
+        JSONObject derived = base.without("a");
+        assertFalse(derived.has("a"));
+        assertTrue(base.has("a"));
+        assertSame(base.get("b"), derived.get("b"));
+        assertSame(base, base.without("x"));
+        assertEquals(derived, base.with("a", null));
+        assertEquals("{\"b\":[1,{\"c\":\"d\"},[true,[]]],\"a\":1,\"e\":{\"f\":null,\"g\":{}}}",
+            derived.with("a", 1)
+                .without("e")
+                .with("e", base.get("e"))
+                .toString());
+    }
+
+    public void testArrayWith() {
+        JSONArray base = JSONArray.fromObject("[1,{\"a\":1},[2]]").freeze();
+        JSONArray derived = base.with(0, "x");
+        assertEquals(Integer.valueOf(1), base.get(0));
+        assertEquals("x", derived.get(0));
+        assertSame(base.get(1), derived.get(1));
+        assertSame(base.get(2), derived.get(2));
+
+        JSONArray appended = base.with(3, base.getJSONObject(1));
+        assertEquals(4, appended.size());
+        assertSame(base.get(1), appended.get(3));
+        assertEquals("[1,{\"a\":1},[2],null,true]", base.with(4, Boolean.TRUE).toString());
+
+        JSONArray removed = base.without(1);
+        assertEquals("[1,[2]]", removed.toString());
+        assertSame(base.get(2), removed.get(1));
+        assertEquals(3, base.size());
+        assertRejected(() -> removed.element(3));
+    }
+
+    public void testPrimitiveArrayWith() {
+        JSONArray base = JSONArray.fromObject(new long[]{1, 2, 3}).freeze();
+        assertEquals("[1,\"x\",3]", base.with(1, "x").toString());
+        assertEquals("[1,3]", base.without(1).toString());
+        assertEquals("[1,2,3]", base.toString());
+    }
+
+    public void testEditsRequireAFrozenReceiver() {
+        JSONObject jsonObject = JSONObject.fromObject(NESTED);
+        JSONArray jsonArray = jsonObject.getJSONArray("b");
+        assertNotFrozen(() -> jsonObject.with("a", 2));
+        assertNotFrozen(() -> jsonObject.without("a"));
+        assertNotFrozen(() -> jsonArray.with(0, 2));
+        assertNotFrozen(() -> jsonArray.without(0));
+        assertFalse(jsonObject.isFrozen());
+        assertFalse(jsonArray.isFrozen());
+    }
+
+    public void testManyEdits() {
+        JSONArray jsonArray = new JSONArray().freeze();
+        JSONObject jsonObject = new JSONObject().freeze();
+        List<Object> expectedElements = new ArrayList<Object>();
+        Map<String, Object> expectedProperties = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < 2000; i++) {
+            jsonArray = jsonArray.with(i, i);
+            expectedElements.add(i);
+            jsonObject = jsonObject.with("k" + i, i);
+            expectedProperties.put("k" + i, i);
+        }
+        for (int i = 0; i < 1500; i++) {
+            int index = (i * 7919) % jsonArray.size();
+            if (i % 3 == 0) {
+                jsonArray = jsonArray.with(index, -i);
+                expectedElements.set(index, -i);
+            } else {
+                jsonArray = jsonArray.without(index);
+                expectedElements.remove(index);
+            }
+            jsonObject = jsonObject.without("k" + index);
+            expectedProperties.remove("k" + index);
+        }
+        assertEquals(expectedElements, jsonArray);
+        assertEquals(expectedProperties, jsonObject);
+        assertEquals(new ArrayList<Object>(expectedProperties.keySet()), new ArrayList<Object>(jsonObject.keySet()));
+    }
+
+    public void testOtherImplementations() {
+        JSON json = new OtherJSON();
+        assertFalse(json.isFrozen());
+        assertRejected(json::freeze);
+    }
+
+    private static void assertNotFrozen(Runnable edit) {
+        try {
+            edit.run();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    private static void assertRejected(Runnable mutation) {
+        try {
+            mutation.run();
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+    }
+
+    /**
+     * Implements only the methods of JSON without a default.
+     */
+    private static class OtherJSON implements JSON {
+        public boolean isArray() {
+            return false;
+        }
+
+        public boolean isEmpty() {
+            return true;
+        }
+
+        public int size() {
+            return 0;
+        }
+
+        public String toString(int indentFactor) {
+            return "{}";
+        }
+
+        public String toString(int indentFactor, int indent) {
+            return "{}";
+        }
+
+        public Writer write(Writer writer) throws IOException {
+            writer.write("{}");
+            return writer;
+        }
+
+        public Writer writeCanonical(Writer writer) throws IOException {
+            return write(writer);
+        }
+    }
+}
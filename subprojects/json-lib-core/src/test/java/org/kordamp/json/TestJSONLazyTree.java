@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JSONTokener;
+import org.kordamp.json.util.LazyJSON;
+
+import java.io.StringWriter;
+
+public class TestJSONLazyTree extends TestCase {
+    /**
+     * Nested members with brackets and quotes inside strings, whitespace
+     * around tokens and empty containers.
+     */
+    private static final String NESTED_MEMBERS = "{\"id\":7,\"name\":\"gateway\",\"payload\":{\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},"
+        + "{\"id\":2,\"text\":\"} ] \\\" [\"}], \"count\" : 2 },\"list\":[1, 2.5, true, null, \"x\"],\"empty\":{},\"none\":[]}";
+
+    private JsonConfig jsonConfig;
+
+    public TestJSONLazyTree(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONLazyTree.class);
+    }
+
+    public void testSameTreeAsEagerParser() {
+        JSONObject eager = JSONObject.fromObject(NESTED_MEMBERS);
+        JSONObject lazy = JSONObject.fromObject(NESTED_MEMBERS, jsonConfig);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager, lazy);
+        assertEquals(eager.toString(), lazy.toString());
+    }
+
+    public void testNestedValuesAreParsedOnAccess() {
+        JSONObject jsonObject = JSONObject.fromObject(NESTED_MEMBERS, jsonConfig);
+        assertEquals("{\"id\":7,\"name\":\"gateway\",\"payload\":{\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},"
+            + "{\"id\":2,\"text\":\"} ] \\\" [\"}], \"count\" : 2 },\"list\":[1, 2.5, true, null, \"x\"],\"empty\":{},\"none\":[]}",
+            jsonObject.toString());
+        JSONObject payload = jsonObject.getJSONObject("payload");
+        assertEquals(2, payload.getInt("count"));
+        assertEquals("} ] \" [", payload.getJSONArray("items")
+            .getJSONObject(1)
+            .getString("text"));
+        assertTrue(jsonObject.toString()
+            .indexOf("\"count\":2}") > 0);
+        assertTrue(jsonObject.toString()
+            .indexOf("[1, 2.5, true, null, \"x\"]") > 0);
+        assertEquals(5, jsonObject.getJSONArray("list")
+            .size());
+        assertTrue(jsonObject.getJSONObject("empty")
+            .isEmpty());
+    }
+
+    public void testWriteCopiesUntouchedMembers() throws Exception {
+        JSONObject jsonObject = JSONObject.fromObject("{\"a\":{ \"b\" : [1 ,2] },\"c\":3}", jsonConfig);
+        StringWriter writer = new StringWriter();
+        jsonObject.write(writer);
+        assertEquals("{\"a\":{ \"b\" : [1 ,2] },\"c\":3}", writer.toString());
+        writer = new StringWriter();
+        jsonObject.writeCanonical(writer);
+        assertEquals("{\"a\":{\"b\":[1,2]},\"c\":3}", writer.toString());
+        assertEquals(JSONObject.fromObject("{\"a\":{\"b\":[1,2]},\"c\":3}")
+            .toString(2), jsonObject.toString(2));
+    }
+
+    public void testArrays() {
+        JSONArray jsonArray = JSONArray.fromObject("[[1,[2]],{\"a\":[]}]", jsonConfig);
+        assertEquals(JSONArray.fromObject("[[1,[2]],{\"a\":[]}]"), jsonArray);
+        assertEquals(2, jsonArray.getJSONArray(0)
+            .getJSONArray(1)
+            .getInt(0));
+    }
+
+    public void testLenientSyntaxIsParsedEagerly() {
+        String[] texts = {"{\"a\":{b:1}}", "{\"a\":{'b':1}}", "{\"a\":[1,]}", "{\"a\":[,1]}", "{\"a\":[012]}",
+            "{\"a\":[1 2]}", "{\"a\":{\"b\":1;\"c\":2}}", "{\"a\":[/* c */1]}", "{\"a\":[function(x){ return x; }]}",
+            "{\"a\":{\"b\"=>1}}"};
+        for (int i = 0; i < texts.length; i++) {
+            JSONObject jsonObject = JSONObject.fromObject(texts[i], jsonConfig);
+            String text = jsonObject.toString();
+            assertEquals(texts[i], JSONObject.fromObject(texts[i])
+                .toString(), text);
+        }
+    }
+
+    public void testMalformedTextIsParsedEagerly() {
+        String[] texts = {"{\"x\":[1,2},\"y\":3}", "{\"x\":{\"a\":1]}", "{\"x\":[\"a\":1]}", "{\"x\":{\"a\"}}",
+            "{\"x\":{:1}}", "{\"x\":{\"a\":1 :2}}", "{\"x\":{\"a\":1,}}", "{\"x\":{\"a\"::1}}", "{\"x\":[1:2]}",
+            "{\"x\":{\"a\":1 \"b\":2}}", "{\"x\":[[1],[2}]}"};
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(texts[i], parse(texts[i], new JsonConfig()), parse(texts[i], jsonConfig));
+        }
+    }
+
+    public void testEscapeErrorsAreDeferred() {
+        jsonConfig.setStrictMode(true);
+        JSONObject jsonObject = JSONObject.fromObject("{\"a\":{\"b\":\"\\q\"},\"c\":3}", jsonConfig);
+        assertEquals(3, jsonObject.getInt("c"));
+        try {
+            jsonObject.get("a");
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testStrictMode() {
+        jsonConfig.setStrictMode(true);
+        assertEquals(JSONObject.fromObject(NESTED_MEMBERS), JSONObject.fromObject(NESTED_MEMBERS, jsonConfig));
+        try {
+            JSONObject.fromObject("{\"a\":[1,]}", jsonConfig);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testWithLazyValues() {
+        jsonConfig.setLazyValues(true);
+        JSONObject jsonObject = JSONObject.fromObject(NESTED_MEMBERS, jsonConfig);
+        assertEquals(JSONObject.fromObject(NESTED_MEMBERS), jsonObject);
+        assertEquals(1, jsonObject.getJSONObject("payload")
+            .getJSONArray("items")
+            .getJSONObject(0)
+            .getInt("id"));
+    }
+
+    public void testNextValue() {
+        Object value = new JSONTokener("[{\"a\":1}, 2]").nextValue(jsonConfig);
+        assertTrue(((LazyJSON) value).isArray());
+        assertEquals(JSONArray.fromObject("[{\"a\":1}, 2]"), ((LazyJSON) value).getJSON());
+        JSONTokener tokener = new JSONTokener("{\"a\":{\"b\":[]}}");
+        tokener.next();
+        tokener.nextValue();
+        tokener.next();
+        value = tokener.nextValue(jsonConfig);
+        assertTrue(value instanceof LazyJSON);
+        assertFalse(((LazyJSON) value).isArray());
+        assertEquals("{\"b\":[]}", ((LazyJSON) value).toJSONString());
+        assertEquals('}', tokener.nextClean());
+    }
+
+    public void testConfig() {
+        assertFalse(new JsonConfig().isLazyTree());
+        assertTrue(jsonConfig.copy().isLazyTree());
+        jsonConfig.reset();
+        assertFalse(jsonConfig.isLazyTree());
+    }
+
+    private static String parse(String text, JsonConfig jsonConfig) {
+        try {
+            return JSONObject.fromObject(text, jsonConfig)
+                .toString();
+        } catch (JSONException e) {
+            return "JSONException";
+        }
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+        jsonConfig.setLazyTree(true);
+    }
+}
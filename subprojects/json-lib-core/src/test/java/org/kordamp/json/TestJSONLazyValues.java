@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JsonEventListener;
+import org.kordamp.json.util.LazyNumber;
+import org.kordamp.json.util.LazyString;
+import org.kordamp.json.util.LazyValue;
+import org.kordamp.json.util.Utf8JSONTokener;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class TestJSONLazyValues extends TestCase {
+    /**
+     * Every kind of scalar: strings with and without escapes, the "null"
+     * string, a JSON-looking string and numbers of each size.
+     */
+    private static final String SCALAR_FORMS = "{\"string\":\"abc\",\"escaped\":\"a\\nb\",\"empty\":\"\",\"null\":\"null\","
+        + "\"json\":\"[1,2]\",\"int\":-12,\"long\":12345678901,\"big\":123456789012345678901234567890,"
+        + "\"double\":2.5E0,\"bigDecimal\":1.12345678901234567890,\"bool\":true,\"nothing\":null,"
+        + "\"array\":[1,\"x\",0.5],\"object\":{\"a\":\"b\"}}";
+
+    private JsonConfig jsonConfig;
+
+    public TestJSONLazyValues(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONLazyValues.class);
+    }
+
+    public void testSameValuesAsEagerParser() {
+        JSONObject eager = JSONObject.fromObject(SCALAR_FORMS);
+        JSONObject lazy = JSONObject.fromObject(SCALAR_FORMS, jsonConfig);
+        assertEquals(eager, lazy);
+        for (Iterator keys = eager.keys(); keys.hasNext(); ) {
+            String key = (String) keys.next();
+            assertEquals(key, eager.get(key), lazy.get(key));
+            assertEquals(key, eager.get(key).getClass(), lazy.get(key).getClass());
+        }
+        assertEquals(eager.hashCode(), lazy.hashCode());
+    }
+
+    public void testValuesAreDecodedOnFirstAccess() {
+        Map values = new HashMap();
+        jsonConfig.enableEventTriggering();
+        jsonConfig.addJsonEventListener(new PropertyValues(values));
+        JSONObject jsonObject = JSONObject.fromObject(SCALAR_FORMS, jsonConfig);
+        assertTrue(values.get("string") instanceof LazyString);
+        assertTrue(values.get("int") instanceof LazyNumber);
+        assertTrue(values.get("big") instanceof LazyNumber);
+        assertFalse(values.get("escaped") instanceof LazyValue);
+        assertFalse(values.get("null") instanceof LazyValue);
+        assertEquals(JSONNull.getInstance(), jsonObject.get("null"));
+
+        assertEquals("abc", jsonObject.getString("string"));
+        assertEquals(-12, jsonObject.getInt("int"));
+        assertEquals(Long.valueOf(12345678901L), jsonObject.opt("long"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), jsonObject.get("big"));
+        assertEquals(new BigDecimal("1.12345678901234567890"), jsonObject.get("bigDecimal"));
+        assertEquals(2.5d, jsonObject.getDouble("double"), 0d);
+    }
+
+    public void testSerializationCopiesTheSource() {
+        JSONObject jsonObject = JSONObject.fromObject(SCALAR_FORMS, jsonConfig);
+        String text = jsonObject.toString();
+        assertTrue(text.indexOf("\"double\":2.5E0") > 0);
+        assertEquals(JSONObject.fromObject(SCALAR_FORMS), JSONObject.fromObject(text));
+        jsonObject.get("double");
+        assertTrue(jsonObject.toString()
+            .indexOf("\"double\":2.5,") > 0);
+    }
+
+    public void testArrays() {
+        JSONArray jsonArray = JSONArray.fromObject("[1,\"x\",0.5,\"</script>\"]", jsonConfig);
+        assertEquals("[1,\"x\",0.5,\"<\\/script>\"]", jsonArray.toString());
+        assertEquals(1, jsonArray.indexOf("x"));
+        assertEquals(Integer.valueOf(1), jsonArray.get(0));
+        assertEquals(Double.valueOf(0.5d), jsonArray.toArray()[2]);
+        assertEquals(JSONArray.fromObject("[1,\"x\",0.5,\"</script>\"]"), jsonArray);
+    }
+
+    public void testEntrySetIsDecoded() {
+        JSONObject jsonObject = JSONObject.fromObject(SCALAR_FORMS, jsonConfig);
+        for (Iterator entries = jsonObject.entrySet()
+            .iterator(); entries.hasNext(); ) {
+            assertFalse(((Map.Entry) entries.next()).getValue() instanceof LazyValue);
+        }
+    }
+
+    public void testStrictMode() {
+        jsonConfig.setStrictMode(true);
+        JSONObject jsonObject = JSONObject.fromObject(SCALAR_FORMS, jsonConfig);
+        assertTrue(jsonObject.toString()
+            .indexOf("\"double\":2.5E0") > 0);
+        assertEquals(JSONObject.fromObject(SCALAR_FORMS), jsonObject);
+        try {
+            JSONArray.fromObject("[012]", jsonConfig);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testOtherSources() {
+        JSONObject expected = JSONObject.fromObject(SCALAR_FORMS);
+        assertEquals(expected, JSONObject.fromObject(new StringReader(SCALAR_FORMS), jsonConfig));
+        assertEquals(expected, JSONObject.fromObject(
+            new Utf8JSONTokener(SCALAR_FORMS.getBytes(StandardCharsets.UTF_8)), jsonConfig));
+    }
+
+    public void testLenientFallbacks() {
+        JSONArray jsonArray = JSONArray.fromObject("[012,0x1F,1 2,'single',1e100000000000]", jsonConfig);
+        assertEquals(JSONArray.fromObject("[012,0x1F,1 2,'single',1e100000000000]"), jsonArray);
+        assertEquals(Integer.valueOf(10), jsonArray.get(0));
+        assertEquals("1 2", jsonArray.get(2));
+    }
+
+    public void testConfig() {
+        assertFalse(new JsonConfig().isLazyValues());
+        assertTrue(jsonConfig.copy().isLazyValues());
+        jsonConfig.reset();
+        assertFalse(jsonConfig.isLazyValues());
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+        jsonConfig.setLazyValues(true);
+    }
+
+    private static class PropertyValues implements JsonEventListener {
+        private final Map values;
+
+        PropertyValues(Map values) {
+            this.values = values;
+        }
+
+        public void onArrayEnd() {
+        }
+
+        public void onArrayStart() {
+        }
+
+        public void onElementAdded(int index, Object element) {
+        }
+
+        public void onError(JSONException jsone) {
+        }
+
+        public void onObjectEnd() {
+        }
+
+        public void onObjectStart() {
+        }
+
+        public void onPropertySet(String key, Object value, boolean accumulated) {
+            values.put(key, value);
+        }
+
+        public void onWarning(String warning) {
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JsonEventListener;
+import org.kordamp.json.util.NonBlockingJSONParser;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+public class TestJSONLimits extends TestCase {
+    private JsonConfig jsonConfig;
+
+    public TestJSONLimits(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONLimits.class);
+    }
+
+    public void testMaxDepth() {
+        jsonConfig.setMaxDepth(3);
+        assertEquals(JSONArray.fromObject("[{\"a\":[1]}]"), JSONArray.fromObject("[{\"a\":[1]}]", jsonConfig));
+        assertLimitExceeded("[{\"a\":[[1]]}]");
+        jsonConfig.setStrictMode(true);
+        assertLimitExceeded("[{\"a\":[[1]]}]");
+    }
+
+    public void testMaxDepth_deeplyNested() {
+        jsonConfig.setMaxDepth(100);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append('[');
+        }
+        for (int i = 0; i < 100000; i++) {
+            sb.append(']');
+        }
+        assertLimitExceeded(sb.toString());
+    }
+
+    public void testMaxDepth_lazyTree() {
+        jsonConfig.setLazyTree(true);
+        jsonConfig.setMaxDepth(2);
+        assertLimitExceeded("{\"a\":{\"b\":{\"c\":1}}}");
+        assertEquals(1, JSONObject.fromObject("{\"a\":{\"b\":1}}", jsonConfig)
+            .getJSONObject("a")
+            .getInt("b"));
+    }
+
+    public void testMaxLength() {
+        jsonConfig.setMaxLength(21);
+        assertEquals(2, JSONArray.fromObject("[1,2,3,4,5,6,7,8,9,0]", jsonConfig)
+            .getInt(1));
+        assertLimitExceeded("[1,2,3,4,5,6,7,8,9,0,1]");
+        try {
+            JSONSerializer.toJSON(new StringReader("[\"" + repeat('x', 100000) + "\",[1]]"), jsonConfig);
+            fail("Expected a JSONLimitException");
+        } catch (JSONLimitException expected) {
+            // ok
+        }
+    }
+
+    public void testMaxLength_message() {
+        jsonConfig.setMaxLength(10);
+        try {
+            JSONArray.fromObject("[\"" + repeat('x', 100) + "\"]", jsonConfig);
+            fail("Expected a JSONLimitException");
+        } catch (JSONLimitException expected) {
+            assertTrue(expected.getMessage()
+                .indexOf("xxx") < 0);
+        }
+    }
+
+    public void testMaxStringLength() {
+        jsonConfig.setMaxStringLength(5);
+        assertEquals("abcde", JSONArray.fromObject("[\"abcde\"]", jsonConfig)
+            .getString(0));
+        assertLimitExceeded("[\"abcdef\"]");
+        assertLimitExceeded("[\"ab\\ncdef\"]");
+        assertLimitExceeded("[abcdefgh]");
+        assertLimitExceeded("{\"abcdef\":1}");
+        assertLimitExceeded("{abcdefgh:1}");
+        jsonConfig.setCanonicalizeKeys(true);
+        assertLimitExceeded("{\"abcdef\":1}");
+        jsonConfig.setLazyValues(true);
+        assertLimitExceeded("[\"abcdef\"]");
+        jsonConfig.setStrictMode(true);
+        assertLimitExceeded("[\"abcdef\"]");
+        assertLimitExceeded("[\"ab\\ncdef\"]");
+    }
+
+    public void testMaxStringLength_streams() {
+        jsonConfig.setMaxStringLength(5);
+        String[] texts = {"[\"abcdef\"]", "[\"ab\\ncdef\"]", "[\"ééééé\"]", "{\"abcdef\":1}"};
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i];
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            boolean accepted = i == 2;
+            assertLimit(accepted, () -> JSONSerializer.toJSON(new StringReader(text), jsonConfig));
+            assertLimit(accepted, () -> JSONSerializer.toJSON(ByteBuffer.wrap(bytes), jsonConfig));
+            assertLimit(accepted, () -> {
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+                direct.put(bytes)
+                    .flip();
+                return JSONSerializer.toJSON(direct, jsonConfig);
+            });
+        }
+    }
+
+    public void testMaxMembers() {
+        jsonConfig.setMaxMembers(3);
+        assertEquals(3, JSONArray.fromObject("[1,[1,2,3],3]", jsonConfig)
+            .size());
+        assertLimitExceeded("[1,2,3,4]");
+        assertLimitExceeded("{\"a\":1,\"b\":2,\"c\":3,\"d\":4}");
+        assertLimitExceeded("[{\"a\":1,\"b\":2,\"c\":3,\"a\":4}]");
+        jsonConfig.setStrictMode(true);
+        assertLimitExceeded("[1,2,3,4]");
+        assertLimitExceeded("{\"a\":1,\"b\":2,\"c\":3,\"d\":4}");
+    }
+
+    public void testMaxNumberLength() {
+        jsonConfig.setMaxNumberLength(4);
+        assertEquals(-1.5d, JSONArray.fromObject("[-1.5]", jsonConfig)
+            .getDouble(0), 0d);
+        assertLimitExceeded("[12345]");
+        assertLimitExceeded("[1.2e10]");
+        jsonConfig.setLazyValues(true);
+        assertLimitExceeded("[12345]");
+        jsonConfig.setStrictMode(true);
+        assertLimitExceeded("[12345]");
+    }
+
+    public void testNonBlockingParser() {
+        jsonConfig.setMaxLength(8);
+        NonBlockingJSONParser parser = new NonBlockingJSONParser(jsonConfig);
+        parser.feed(ByteBuffer.wrap("[1,2,".getBytes(StandardCharsets.UTF_8)));
+        try {
+            parser.feed(ByteBuffer.wrap("3,4,5,6]".getBytes(StandardCharsets.UTF_8)));
+            fail("Expected a JSONLimitException");
+        } catch (JSONLimitException expected) {
+            // ok
+        }
+    }
+
+    public void testErrorEvent() {
+        final JSONException[] errors = new JSONException[1];
+        jsonConfig.enableEventTriggering();
+        jsonConfig.addJsonEventListener(new JsonEventListener() {
+            public void onArrayEnd() {
+            }
+
+            public void onArrayStart() {
+            }
+
+            public void onElementAdded(int index, Object element) {
+            }
+
+            public void onError(JSONException jsone) {
+                errors[0] = jsone;
+            }
+
+            public void onObjectEnd() {
+            }
+
+            public void onObjectStart() {
+            }
+
+            public void onPropertySet(String key, Object value, boolean accumulated) {
+            }
+
+            public void onWarning(String warning) {
+            }
+        });
+        jsonConfig.setMaxMembers(1);
+        assertLimitExceeded("[1,2]");
+        assertTrue(errors[0] instanceof JSONLimitException);
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+    }
+
+    private void assertLimitExceeded(String text) {
+        try {
+            JSONSerializer.toJSON(text, jsonConfig);
+            fail("Expected a JSONLimitException for " + text);
+        } catch (JSONLimitException expected) {
+            // ok
+        }
+    }
+
+    private static void assertLimit(boolean accepted, Supplier<JSON> parse) {
+        try {
+            assertNotNull(parse.get());
+            assertTrue("Expected a JSONLimitException", accepted);
+        } catch (JSONLimitException expected) {
+            assertFalse(accepted);
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
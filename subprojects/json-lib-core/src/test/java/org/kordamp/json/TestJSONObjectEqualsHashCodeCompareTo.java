@@ -214,4 +214,30 @@ public class TestJSONObjectEqualsHashCodeCompareTo extends TestCase {
             .hashCode() != values.get("JSONObject.strings")
             .hashCode());
     }
-}
\ No newline at end of file
+
+    public void testEquals_sameTypes() {
+        JSONObject object = JSONObject.fromObject("{\"a\":1,\"b\":2.5,\"c\":\"x\",\"d\":[true,null],\"e\":{}}");
+        assertEquals(object, JSONObject.fromObject(object.toString()));
+        assertFalse(object.equals(JSONObject.fromObject("{\"a\":1,\"b\":2.5,\"c\":\"y\",\"d\":[true,null],\"e\":{}}")));
+    }
+
+    public void testEquals_mixedTypes() {
+        assertEquals(new JSONObject().element("a", 1), new JSONObject().element("a", 1L));
+        assertEquals(new JSONObject().element("a", 1), new JSONObject().element("a", "1"));
+        assertFalse(new JSONObject().element("a", 1)
+            .equals(new JSONObject().element("a", 2L)));
+    }
+
+    public void testHashCode_cached() {
+        JSONObject object = JSONObject.fromObject("{\"a\":{\"b\":1}}");
+        JSONObject inner = object.getJSONObject("a");
+        object.setSerializationCached(true);
+        int hashCode = object.hashCode();
+        assertEquals(hashCode, object.hashCode());
+        inner.element("b", 2);
+        assertEquals(JSONObject.fromObject("{\"a\":{\"b\":2}}")
+            .hashCode(), object.hashCode());
+        object.remove("a");
+        assertEquals(new JSONObject().hashCode(), object.hashCode());
+    }
+}
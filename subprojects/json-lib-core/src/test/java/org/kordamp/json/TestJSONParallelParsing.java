@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JsonEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestJSONParallelParsing extends TestCase {
+    private JsonConfig jsonConfig;
+    private ForkJoinPool pool;
+    private AtomicInteger workers;
+
+    public TestJSONParallelParsing(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONParallelParsing.class);
+    }
+
+    public void testSameArrayAsSequentialParser() {
+        String text = records(1000);
+        JSONArray sequential = JSONArray.fromObject(text);
+        JSONArray parallel = JSONArray.Impl.fromStringParallel(text, jsonConfig, pool);
+        assertTrue(workers.get() > 0);
+        assertEquals(1000, parallel.size());
+        assertEquals(sequential, parallel);
+        assertEquals(sequential.toString(), parallel.toString());
+        assertEquals(999, parallel.getJSONObject(999)
+            .getInt("id"));
+    }
+
+    public void testParallelParsingFlag() {
+        String text = records(5000);
+        assertTrue(text.length() >= JSONArray.Impl.PARALLEL_PARSING_THRESHOLD);
+        jsonConfig.setParallelParsing(true);
+        assertEquals(JSONArray.fromObject(text), JSONArray.fromObject(text, jsonConfig));
+        assertEquals(JSONArray.fromObject(text), JSONSerializer.toJSON(text, jsonConfig));
+    }
+
+    public void testStrictMode() {
+        jsonConfig.setStrictMode(true);
+        String text = records(1000);
+        assertEquals(JSONArray.fromObject(text), JSONArray.Impl.fromStringParallel(text, jsonConfig, pool));
+        try {
+            JSONArray.Impl.fromStringParallel(text.replace("\"id\":500,", "\"id\":0500,"), jsonConfig, pool);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testSyntaxErrorInChunk() {
+        String text = records(1000).replace("\"id\":500,", "\"id\":500,:");
+        try {
+            JSONArray.Impl.fromStringParallel(text, jsonConfig, pool);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testLenientSyntaxIsParsedSequentially() {
+        assertSequential(records(1000).replace("[\"a\",[500", "[\"a\",,[500"));
+        assertSequential(records(1000).replace("{\"id\":500,", "null,,{\"id\":500,"));
+        assertSequential(records(1000).replace("{\"id\":500,", "{'id':500,"));
+        assertSequential(records(1000).replace("{\"id\":500,", "/* c */{\"id\":500,"));
+        assertSequential(records(1000).replace("{\"id\":500,", "function(a){ return a; },{\"id\":500,"));
+        assertSequential(records(1000).replace("[999\"}]", "[999\"},]"));
+        assertEquals(0, workers.get());
+    }
+
+    public void testEventsAreDeliveredInOrder() {
+        List indexes = new ArrayList();
+        jsonConfig.enableEventTriggering();
+        jsonConfig.addJsonEventListener(new ElementIndexes(indexes));
+        JSONArray jsonArray = JSONArray.Impl.fromStringParallel(records(1000), jsonConfig, pool);
+        assertEquals(0, workers.get());
+        assertEquals(1000, indexes.size());
+        for (int i = 0; i < jsonArray.size(); i++) {
+            assertEquals(i, ((Integer) indexes.get(i)).intValue());
+        }
+    }
+
+    public void testSmallArrays() {
+        assertEquals(new JSONArray(), JSONArray.Impl.fromStringParallel(" [ ] ", jsonConfig, pool));
+        assertEquals(JSONArray.fromObject("[1,2,3]"), JSONArray.Impl.fromStringParallel("[1,2,3]", jsonConfig, pool));
+        assertEquals(0, workers.get());
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+        workers = new AtomicInteger();
+        pool = new ForkJoinPool(4, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                workers.incrementAndGet();
+                return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            }
+        }, null, false);
+    }
+
+    protected void tearDown() throws Exception {
+        pool.shutdown();
+    }
+
+    private void assertSequential(String text) {
+        assertEquals(JSONArray.fromObject(text), JSONArray.Impl.fromStringParallel(text, jsonConfig, pool));
+    }
+
+    private static String records(int count) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(i % 2 == 0 ? ",\n" : " , ");
+            }
+            sb.append("{\"id\":")
+                .append(i)
+                .append(", \"price\":")
+                .append(i * 0.25)
+                .append(",\"tags\":[\"a\",[")
+                .append(i)
+                .append(",{}]],\"text\":\"x, ] \\\" [")
+                .append(i)
+                .append("\"}");
+        }
+        return sb.append("]")
+            .toString();
+    }
+
+    private static class ElementIndexes implements JsonEventListener {
+        private final List indexes;
+
+        ElementIndexes(List indexes) {
+            this.indexes = indexes;
+        }
+
+        public void onArrayEnd() {
+        }
+
+        public void onArrayStart() {
+        }
+
+        public void onElementAdded(int index, Object element) {
+            if (element instanceof JSONObject && ((JSONObject) element).has("id")) {
+                indexes.add(Integer.valueOf(index));
+            }
+        }
+
+        public void onError(JSONException jsone) {
+        }
+
+        public void onObjectEnd() {
+        }
+
+        public void onObjectStart() {
+        }
+
+        public void onPropertySet(String key, Object value, boolean accumulated) {
+        }
+
+        public void onWarning(String warning) {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+
+public class TestJSONParser extends TestCase {
+    public TestJSONParser(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONParser.class);
+    }
+
+    public void testParse() {
+        JSONParser parser = new JSONParser();
+        assertEquals(JSONObject.fromObject("{\"a\":1,\"b\":[true,null]}"), parser.parse("{\"a\":1,\"b\":[true,null]}"));
+        assertEquals(JSONArray.fromObject("[1,'x',{\"c\":2.5}]"), parser.parse(new StringBuilder("[1,'x',{\"c\":2.5}]")));
+        assertEquals(JSONNull.getInstance(), parser.parse("null"));
+        assertEquals(JSONObject.fromObject("{\"a\":2}"), parser.parse("{\"a\":2}"));
+    }
+
+    public void testParseIntoObject() {
+        JSONParser parser = new JSONParser();
+        JSONObject target = new JSONObject();
+        assertSame(target, parser.parse("{\"a\":1,\"b\":2}", target));
+        assertEquals(JSONObject.fromObject("{\"a\":1,\"b\":2}"), target);
+        assertSame(target, parser.parse("{\"c\":{\"d\":\"e\"}}", target));
+        assertEquals(JSONObject.fromObject("{\"c\":{\"d\":\"e\"}}"), target);
+        assertSame(target, parser.parse("null", target));
+        assertTrue(target.isNullObject());
+        assertSame(target, parser.parse("{}", target));
+        assertFalse(target.isNullObject());
+        assertTrue(target.isEmpty());
+    }
+
+    public void testParseIntoArray() {
+        JSONParser parser = new JSONParser();
+        JSONArray target = new JSONArray();
+        assertSame(target, parser.parse("[1,2,3]", target));
+        assertEquals(JSONArray.fromObject("[1,2,3]"), target);
+        assertSame(target, parser.parse("[\"x\"]", target));
+        assertEquals(JSONArray.fromObject("[\"x\"]"), target);
+    }
+
+    public void testRecoversAfterAnError() {
+        JSONParser parser = new JSONParser();
+        JSONObject target = new JSONObject();
+        try {
+            parser.parse("{\"a\":[1,{\"b\":}]}", target);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+        assertEquals(JSONObject.fromObject("{\"a\":1}"), parser.parse("{\"a\":1}", target));
+    }
+
+    public void testStrictMode() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setStrictMode(true);
+        JSONParser parser = new JSONParser(jsonConfig);
+        assertEquals(JSONObject.fromObject("{\"a\":[1]}"), parser.parse("{\"a\":[1]}", new JSONObject()));
+        try {
+            parser.parse("[1] 2", new JSONArray());
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+        try {
+            parser.parse("{'a':1}");
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testLimitsApplyToEveryMessage() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setMaxDepth(2);
+        JSONParser parser = new JSONParser(jsonConfig);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, ((JSONArray) parser.parse("[[1],[2]]")).size());
+            try {
+                parser.parse("[[[1]]]");
+                fail("Expected a JSONLimitException");
+            } catch (JSONLimitException expected) {
+                // ok
+            }
+        }
+    }
+}
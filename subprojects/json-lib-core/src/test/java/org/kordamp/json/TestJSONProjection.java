@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JSONProjection;
+import org.kordamp.json.util.JSONTokener;
+import org.kordamp.json.util.JsonEventListener;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestJSONProjection extends TestCase {
+    /**
+     * Unselected members holding nested containers, brackets, quotes and
+     * commas inside strings, and array elements missing a selected member.
+     */
+    private static final String PARTLY_SELECTED = "{\"meta\":{\"version\":2,\"tags\":[\"a\",\"b\"]},"
+        + "\"items\":[{\"id\":1,\"name\":\"one\",\"blob\":{\"data\":[1,2,{\"x\":\"} ] \\\" [\"}]}},"
+        + "{\"id\":2,\"name\":\"two\",\"blob\":[]},{\"name\":\"three\"}],"
+        + "\"payload\":{\"big\":[[1,2],[3,4]],\"text\":\"skip, me\"},\"count\":3}";
+
+    private JsonConfig jsonConfig;
+
+    public TestJSONProjection(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONProjection.class);
+    }
+
+    public void testSelect() {
+        JSONProjection projection = JSONProjection.compile("/items/*/id", "/items/0/name", "/meta", "/a~1b");
+        assertNull(projection.select("payload"));
+        assertTrue(projection.select("meta")
+            .isAll());
+        assertNotNull(projection.select("a/b"));
+        JSONProjection items = projection.select("items");
+        assertTrue(items.select(0)
+            .select("id")
+            .isAll());
+        assertTrue(items.select(0)
+            .select("name")
+            .isAll());
+        assertTrue(items.select(5)
+            .select("id")
+            .isAll());
+        assertNull(items.select(5)
+            .select("name"));
+        assertTrue(JSONProjection.compile("")
+            .isAll());
+        assertTrue(JSONProjection.compile("/meta/tags", "/meta")
+            .select("meta")
+            .isAll());
+    }
+
+    public void testInvalidSelector() {
+        try {
+            JSONProjection.compile("items");
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testObjectProjection() {
+        jsonConfig.setProjection(JSONProjection.compile("/items/*/id", "/meta", "/count"));
+        JSONObject jsonObject = JSONObject.fromObject(PARTLY_SELECTED, jsonConfig);
+        assertEquals(JSONObject.fromObject("{\"meta\":{\"version\":2,\"tags\":[\"a\",\"b\"]},"
+            + "\"items\":[{\"id\":1},{\"id\":2},{}],\"count\":3}"), jsonObject);
+    }
+
+    public void testArrayIndexes() {
+        jsonConfig.setProjection(JSONProjection.compile("/1", "/3/a"));
+        JSONArray jsonArray = JSONArray.fromObject("[{\"a\":1},{\"a\":2},[3],{\"a\":4,\"b\":5},6]", jsonConfig);
+        assertEquals(JSONArray.fromObject("[{\"a\":2},{\"a\":4}]"), jsonArray);
+    }
+
+    public void testStrictMode() {
+        jsonConfig.setStrictMode(true);
+        testObjectProjection();
+        testArrayIndexes();
+    }
+
+    public void testReaderSource() {
+        jsonConfig.setProjection(JSONProjection.compile("/items/*/name"));
+        JSON json = JSONSerializer.toJSON(new StringReader(PARTLY_SELECTED), jsonConfig);
+        assertEquals(JSONObject.fromObject("{\"items\":[{\"name\":\"one\"},{\"name\":\"two\"},{\"name\":\"three\"}]}"), json);
+    }
+
+    public void testLazyTree() {
+        jsonConfig.setLazyTree(true);
+        jsonConfig.setProjection(JSONProjection.compile("/items/0/blob", "/payload/big/1"));
+        JSONObject jsonObject = JSONObject.fromObject(PARTLY_SELECTED, jsonConfig);
+        assertEquals(JSONObject.fromObject("{\"items\":[{\"blob\":{\"data\":[1,2,{\"x\":\"} ] \\\" [\"}]}}],"
+            + "\"payload\":{\"big\":[[3,4]]}}"), jsonObject);
+    }
+
+    public void testSkippedValuesAreNotParsed() {
+        List keys = new ArrayList();
+        jsonConfig.enableEventTriggering();
+        jsonConfig.addJsonEventListener(new PropertyKeys(keys));
+        jsonConfig.setProjection(JSONProjection.compile("/keep"));
+        JSONObject jsonObject = JSONObject.fromObject("{\"skip\":{\"a\":[1, 2 3 ::]},'other':function(a){ return a; },"
+            + "\"keep\":{\"b\":true}}", jsonConfig);
+        assertEquals(JSONObject.fromObject("{\"keep\":{\"b\":true}}"), jsonObject);
+        assertTrue(keys.contains("keep"));
+        assertFalse(keys.contains("skip"));
+        assertFalse(keys.contains("a"));
+        assertFalse(keys.contains("other"));
+    }
+
+    public void testConcatenatedValues() {
+        List values = new ArrayList();
+        jsonConfig.setProjection(JSONProjection.compile("/id"));
+        JSONSerializer.toJSON(new JSONTokener("{\"id\":1,\"x\":{}} {\"x\":[],\"id\":2}"), jsonConfig, values::add);
+        assertEquals(JSONObject.fromObject("{\"id\":1}"), values.get(0));
+        assertEquals(JSONObject.fromObject("{\"id\":2}"), values.get(1));
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+    }
+
+    private static class PropertyKeys implements JsonEventListener {
+        private final List keys;
+
+        PropertyKeys(List keys) {
+            this.keys = keys;
+        }
+
+        public void onArrayEnd() {
+        }
+
+        public void onArrayStart() {
+        }
+
+        public void onElementAdded(int index, Object element) {
+        }
+
+        public void onError(JSONException jsone) {
+        }
+
+        public void onObjectEnd() {
+        }
+
+        public void onObjectStart() {
+        }
+
+        public void onPropertySet(String key, Object value, boolean accumulated) {
+            keys.add(key);
+        }
+
+        public void onWarning(String warning) {
+        }
+    }
+}
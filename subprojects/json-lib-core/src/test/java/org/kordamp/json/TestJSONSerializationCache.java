@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.Map;
+
+public class TestJSONSerializationCache extends TestCase {
+    /**
+     * Three levels of objects and arrays below the root, with a string that
+     * is escaped in the cached text.
+     */
+    private static final String CACHED_LEVELS = "{\"a\":1,\"b\":[1,{\"c\":\"d\"},[true]],"
+        + "\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}}}";
+
+    private JSONObject jsonObject;
+
+    public TestJSONSerializationCache(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONSerializationCache.class);
+    }
+
+    public void testTextIsCached() {
+        String text = jsonObject.toString();
+        assertEquals(CACHED_LEVELS, text);
+        assertSame(text, jsonObject.toString());
+        assertSame(jsonObject.getJSONArray("b").toString(), jsonObject.getJSONArray("b").toString());
+        assertTrue(jsonObject.getJSONObject("e").isSerializationCached());
+    }
+
+    public void testNotCachedByDefault() {
+        JSONObject plain = JSONObject.fromObject(CACHED_LEVELS);
+        assertFalse(plain.isSerializationCached());
+        assertNotSame(plain.toString(), plain.toString());
+    }
+
+    public void testModifyingTheObject() {
+        jsonObject.toString();
+        jsonObject.element("g", 2);
+        assertEquals("{\"a\":1,\"b\":[1,{\"c\":\"d\"},[true]],\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}},\"g\":2}", jsonObject.toString());
+        jsonObject.remove("g");
+        assertEquals(CACHED_LEVELS, jsonObject.toString());
+        jsonObject.accumulate("a", 3);
+        assertEquals("{\"a\":[1,3],\"b\":[1,{\"c\":\"d\"},[true]],\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}}}", jsonObject.toString());
+        jsonObject.put("a", "x");
+        assertEquals("{\"a\":\"x\",\"b\":[1,{\"c\":\"d\"},[true]],\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}}}", jsonObject.toString());
+        jsonObject.clear();
+        assertEquals("{}", jsonObject.toString());
+    }
+
+    public void testModifyingANestedValue() {
+        jsonObject.toString();
+        String e = jsonObject.getJSONObject("e").toString();
+        jsonObject.getJSONArray("b").getJSONObject(1).element("c", "z");
+        assertEquals("{\"a\":1,\"b\":[1,{\"c\":\"z\"},[true]],\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}}}", jsonObject.toString());
+        assertSame(e, jsonObject.getJSONObject("e").toString());
+
+        JSONArray b = jsonObject.getJSONArray("b");
+        b.getJSONArray(2).element(false);
+        assertEquals("[1,{\"c\":\"z\"},[true,false]]", b.toString());
+        for (Iterator elements = b.iterator(); elements.hasNext(); ) {
+            if (elements.next() instanceof JSONObject) {
+                elements.remove();
+            }
+        }
+        assertEquals("{\"a\":1,\"b\":[1,[true,false]],\"e\":{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\"]}}}", jsonObject.toString());
+    }
+
+    public void testWrite() throws Exception {
+        StringWriter writer = new StringWriter();
+        jsonObject.write(writer);
+        assertEquals(CACHED_LEVELS, writer.toString());
+        jsonObject.getJSONObject("e").element("f", 1);
+        writer = new StringWriter();
+        jsonObject.write(writer);
+        assertEquals("{\"a\":1,\"b\":[1,{\"c\":\"d\"},[true]],\"e\":{\"f\":1,\"g\":{\"h\":[\"q\\\"uote\"]}}}", writer.toString());
+    }
+
+    public void testLazyValues() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setLazyValues(true);
+        JSONObject lazy = JSONObject.fromObject("{\"d\":2.5E0}", jsonConfig);
+        lazy.setSerializationCached(true);
+        assertEquals("{\"d\":2.5E0}", lazy.toString());
+        lazy.get("d");
+        assertEquals("{\"d\":2.5}", lazy.toString());
+    }
+
+    public void testModifyingASubList() {
+        JSONArray jsonArray = JSONArray.fromObject("[1,2,3]");
+        jsonArray.setSerializationCached(true);
+        assertEquals("[1,2,3]", jsonArray.toString());
+        int hashCode = jsonArray.hashCode();
+        jsonArray.subList(0, 1)
+            .clear();
+        assertEquals("[2,3]", jsonArray.toString());
+        assertEquals(JSONArray.fromObject("[2,3]")
+            .hashCode(), jsonArray.hashCode());
+        assertFalse(hashCode == jsonArray.hashCode());
+        jsonArray.subList(1, 2)
+            .set(0, "x");
+        assertEquals("[2,\"x\"]", jsonArray.toString());
+        jsonArray.subList(0, 2)
+            .subList(0, 1)
+            .add("y");
+        assertEquals("[2,\"y\",\"x\"]", jsonArray.toString());
+    }
+
+    public void testModifyingTheDeepestLevel() {
+        jsonObject.toString();
+        String b = jsonObject.getJSONArray("b")
+            .toString();
+        JSONObject g = jsonObject.getJSONObject("e")
+            .getJSONObject("g");
+        String h = g.getJSONArray("h")
+            .toString();
+        g.getJSONArray("h")
+            .element(2);
+        assertEquals("[\"q\\\"uote\",2]", g.getJSONArray("h")
+            .toString());
+        assertNotSame(h, g.getJSONArray("h")
+            .toString());
+        assertEquals("{\"f\":null,\"g\":{\"h\":[\"q\\\"uote\",2]}}", jsonObject.getJSONObject("e")
+            .toString());
+        assertSame(b, jsonObject.getJSONArray("b")
+            .toString());
+        assertEquals(JSONObject.fromObject(jsonObject.toString()), jsonObject);
+    }
+
+    public void testEntrySetValue() {
+        JSONObject object = JSONObject.fromObject("{\"a\":1,\"b\":{\"c\":2}}");
+        object.setSerializationCached(true);
+        assertEquals("{\"a\":1,\"b\":{\"c\":2}}", object.toString());
+        Map.Entry entry = (Map.Entry) object.entrySet()
+            .iterator()
+            .next();
+        assertEquals(Integer.valueOf(1), entry.setValue(Integer.valueOf(5)));
+        assertEquals("{\"a\":5,\"b\":{\"c\":2}}", object.toString());
+        assertEquals(Integer.valueOf(5), object.get("a"));
+        assertTrue(object.entrySet()
+            .contains(entry));
+        ((Map.Entry) object.getJSONObject("b")
+            .entrySet()
+            .iterator()
+            .next()).setValue("x");
+        assertEquals("{\"a\":5,\"b\":{\"c\":\"x\"}}", object.toString());
+    }
+
+    public void testReplaceAll() {
+        jsonObject.toString();
+        JSONObject e = jsonObject.getJSONObject("e");
+        e.replaceAll((key, value) -> key);
+        assertEquals("{\"f\":\"f\",\"g\":\"g\"}", e.toString());
+        jsonObject.replaceAll((key, value) -> value instanceof JSONArray ? ((JSONArray) value).size() : value);
+        assertEquals("{\"a\":1,\"b\":3,\"e\":{\"f\":\"f\",\"g\":\"g\"}}", jsonObject.toString());
+    }
+
+    public void testFrozenEntriesAreReadOnly() {
+        JSONObject frozen = JSONObject.fromObject("{\"a\":1}")
+            .freeze();
+        try {
+            ((Map.Entry) frozen.entrySet()
+                .iterator()
+                .next()).setValue(Integer.valueOf(5));
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+        assertEquals("{\"a\":1}", frozen.toString());
+    }
+
+    public void testDisable() {
+        String text = jsonObject.toString();
+        jsonObject.setSerializationCached(false);
+        assertNotSame(text, jsonObject.toString());
+        assertEquals(text, jsonObject.toString());
+    }
+
+    protected void setUp() throws Exception {
+        jsonObject = JSONObject.fromObject(CACHED_LEVELS);
+        jsonObject.setSerializationCached(true);
+    }
+}
@@ -26,7 +26,11 @@ import org.kordamp.json.sample.MappingBean;
 import org.kordamp.json.sample.ObjectJSONStringBean;
 import org.kordamp.json.sample.ValueBean;
 import org.kordamp.json.util.JSONTokener;
+import org.kordamp.json.util.Utf8JSONTokener;
 
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -262,6 +266,41 @@ public class TestJSONSerializer extends TestCase {
         Assertions.assertEquals(JSONObject.fromObject("{\"name\":\"json\"}"), (JSONObject) json);
     }
 
+    public void testToJSON_Reader_concatenatedValues() {
+        List values = new ArrayList();
+        long count = JSONSerializer.toJSON(new StringReader("{\"id\":1}{\"id\":2}[1,2]null\n  {'id':3} "), jsonConfig,
+            values::add);
+        assertEquals(5, count);
+        assertEquals(5, values.size());
+        Assertions.assertEquals(JSONObject.fromObject("{\"id\":1}"), (JSONObject) values.get(0));
+        Assertions.assertEquals(JSONObject.fromObject("{\"id\":2}"), (JSONObject) values.get(1));
+        Assertions.assertEquals(JSONArray.fromObject("[1,2]"), (JSONArray) values.get(2));
+        assertEquals(JSONNull.getInstance(), values.get(3));
+        assertEquals(3, ((JSONObject) values.get(4)).getInt("id"));
+    }
+
+    public void testToJSON_JSONTokener_concatenatedValues() {
+        List values = new ArrayList();
+        jsonConfig.setStrictMode(true);
+        assertEquals(2, JSONSerializer.toJSON(new JSONTokener("{\"b\":[1]} {\"a\":[{}]}"), jsonConfig, values::add));
+        assertEquals(0, JSONSerializer.toJSON(new StringReader("  "), jsonConfig, values::add));
+        assertEquals(1, JSONSerializer.toJSON(new Utf8JSONTokener("[1] ".getBytes(StandardCharsets.UTF_8)), jsonConfig,
+            values::add));
+        assertEquals(3, values.size());
+        Assertions.assertEquals(JSONArray.fromObject("[1]"), (JSONArray) values.get(2));
+    }
+
+    public void testToJSON_Reader_concatenatedValues_invalid() {
+        List values = new ArrayList();
+        try {
+            JSONSerializer.toJSON(new StringReader("{\"id\":1}[1,2]\"text\""), jsonConfig, values::add);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+        assertEquals(2, values.size());
+    }
+
     protected void setUp() throws Exception {
         jsonConfig = new JsonConfig();
     }
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json;
+
+import junit.framework.TestCase;
+import org.kordamp.json.util.JSONTokener;
+import org.kordamp.json.util.Utf8JSONTokener;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+public class TestJSONStrictMode extends TestCase {
+    /**
+     * Every escape, number form and structure allowed by RFC 8259.
+     */
+    private static final String RFC_8259_FORMS = "{\"string\":\"a\\\"b\\\\c\\/d\\u00e9\\n\\b\\f\\r\\t\",\"empty\":\"\","
+        + "\"int\":-12,\"long\":12345678901,\"big\":123456789012345678901234567890,\"double\":2.5,\"exp\":1e3,"
+        + "\"negativeExp\":-2.5E-3,\"plusExp\":0.5e+2,\"bigDecimal\":1.12345678901234567890,\"bool\":true,"
+        + "\"false\":false,\"null\":null,\"array\":[ 1 , [], {} ],\"object\":{\"a\":[\"b\"]}}";
+
+    private JsonConfig jsonConfig;
+
+    public TestJSONStrictMode(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONStrictMode.class);
+    }
+
+    public void testSameResultAsLenientParser() {
+        JSONObject lenient = JSONObject.fromObject(RFC_8259_FORMS);
+        JSONObject strict = JSONObject.fromObject(RFC_8259_FORMS, jsonConfig);
+        assertEquals(lenient, strict);
+        assertEquals(lenient.toString(), strict.toString());
+        assertEquals("a\"b\\c/dé\n\b\f\r\t", strict.getString("string"));
+        assertEquals(Integer.valueOf(-12), strict.get("int"));
+        assertEquals(Long.valueOf(12345678901L), strict.get("long"));
+        assertTrue(strict.get("big") instanceof BigInteger);
+        assertTrue(strict.get("bigDecimal") instanceof BigDecimal);
+        assertEquals(Double.valueOf(2.5d), strict.get("double"));
+    }
+
+    public void testSameTypesAsLenientParser() {
+        String text = "[0,-0,2147483647,2147483648,-2147483649,999999999999999999,9999999999999999999,0.5,1E-2,-1.5e+3]";
+        JSONArray lenient = JSONArray.fromObject(text);
+        JSONArray strict = JSONArray.fromObject(text, jsonConfig);
+        assertEquals(lenient.size(), strict.size());
+        for (int i = 0; i < lenient.size(); i++) {
+            assertEquals(text, lenient.get(i), strict.get(i));
+            assertEquals(text, lenient.get(i).getClass(), strict.get(i).getClass());
+        }
+    }
+
+    public void testOtherSources() {
+        JSONObject expected = JSONObject.fromObject(RFC_8259_FORMS);
+        assertEquals(expected, JSONSerializer.toJSON(new StringReader(RFC_8259_FORMS), jsonConfig));
+        assertEquals(expected, JSONObject.fromObject(
+            new Utf8JSONTokener(RFC_8259_FORMS.getBytes(StandardCharsets.UTF_8)), jsonConfig));
+        assertEquals(expected, JSONSerializer.toJSON(RFC_8259_FORMS, jsonConfig));
+        assertEquals(JSONNull.getInstance(), JSONSerializer.toJSON(new StringReader(" null "), jsonConfig));
+    }
+
+    public void testExclusionsAndFilters() {
+        jsonConfig.setExcludes(new String[]{"int"});
+        JSONObject strict = JSONObject.fromObject(RFC_8259_FORMS, jsonConfig);
+        assertFalse(strict.has("int"));
+        assertTrue(strict.has("long"));
+    }
+
+    public void testLenientSyntaxIsRejected() {
+        assertRejected("{a:1}");
+        assertRejected("{'a':1}");
+        assertRejected("{\"a\":'b'}");
+        assertRejected("{\"a\"=1}");
+        assertRejected("{\"a\":1;\"b\":2}");
+        assertRejected("{\"a\":1,}");
+        assertRejected("[1,2,]");
+        assertRejected("[,1]");
+        assertRejected("[1 2]");
+        assertRejected("[abc]");
+        assertRejected("[012]");
+        assertRejected("[0x1F]");
+        assertRejected("[+1]");
+        assertRejected("[.5]");
+        assertRejected("[1.]");
+        assertRejected("[1e]");
+        assertRejected("[True]");
+        assertRejected("[nul]");
+        assertRejected("[\"a\\qb\"]");
+        assertRejected("[\"a\tb\"]");
+        assertRejected("[\"\\u12G4\"]");
+        assertRejected("[1] // comment");
+        assertRejected("[/* comment */ 1]");
+        assertRejected("[function(a){ return a; }]");
+        assertRejected("{\"a\":1} {\"b\":2}");
+    }
+
+    public void testLenientByDefault() {
+        assertEquals(2, JSONObject.fromObject("{a:'1'; b=>2}").size());
+        assertFalse(new JsonConfig().isStrictMode());
+        assertTrue(jsonConfig.copy().isStrictMode());
+        jsonConfig.reset();
+        assertFalse(jsonConfig.isStrictMode());
+    }
+
+    public void testNextValue() {
+        assertEquals("x", new JSONTokener("\"x\"").nextValue(jsonConfig));
+        try {
+            new JSONTokener("'x'").nextValue(jsonConfig);
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    protected void setUp() throws Exception {
+        jsonConfig = new JsonConfig();
+        jsonConfig.setStrictMode(true);
+    }
+
+    private void assertRejected(String text) {
+        try {
+            JSONSerializer.toJSON(text, jsonConfig);
+            fail("Expected a JSONException for " + text);
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+}
@@ -30,6 +30,18 @@ public class AllTests extends TestSuite {
         suite.addTest(new TestSuite(TestJavaIdentifierTransformer.class));
         suite.addTest(new TestSuite(TestJSONUtils.class));
         suite.addTest(new TestSuite(TestJSONTokener.class));
+        suite.addTest(new TestSuite(TestReaderJSONTokener.class));
+        suite.addTest(new TestSuite(TestMappedJSONTokener.class));
+        suite.addTest(new TestSuite(TestUtf8JSONTokener.class));
+        suite.addTest(new TestSuite(TestJSONReader.class));
+        suite.addTest(new TestSuite(TestSymbolTable.class));
+        suite.addTest(new TestSuite(TestIndexedJSON.class));
+        suite.addTest(new TestSuite(TestJSONLines.class));
+        suite.addTest(new TestSuite(TestNonBlockingJSONParser.class));
+        suite.addTest(new TestSuite(TestCompactOrderedMap.class));
+        suite.addTest(new TestSuite(TestPrimitiveList.class));
+        suite.addTest(new TestSuite(TestPersistentList.class));
+        suite.addTest(new TestSuite(TestPersistentOrderedMap.class));
         suite.addTest(new TestSuite(TestJSONBuilder.class));
         suite.addTest(new TestSuite(TestJSONStringer.class));
         suite.addTest(new TestSuite(TestWebUtils.class));
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestCompactOrderedMap extends TestCase {
+    public TestCompactOrderedMap(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestCompactOrderedMap.class);
+    }
+
+    public void testInsertionOrder() {
+        CompactOrderedMap map = new CompactOrderedMap();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", null);
+        assertNull(map.put("d", 4));
+        assertEquals(Integer.valueOf(2), map.put("a", 5));
+        assertEquals(Arrays.asList("c", "a", "b", "d"), new ArrayList(map.keySet()));
+        assertEquals(Arrays.asList(1, 5, null, 4), new ArrayList(map.values()));
+        assertEquals(4, map.size());
+        assertTrue(map.containsKey("b"));
+        assertTrue(map.containsValue(null));
+        assertFalse(map.containsKey("e"));
+        assertFalse(map.containsKey(null));
+        assertFalse(map.containsKey(Integer.valueOf(1)));
+        assertNull(map.get("e"));
+    }
+
+    public void testRemove() {
+        CompactOrderedMap map = new CompactOrderedMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        assertEquals(Integer.valueOf(2), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertFalse(map.containsKey("b"));
+        map.put("b", 4);
+        assertEquals(Arrays.asList("a", "c", "b"), new ArrayList(map.keySet()));
+        map.remove("a");
+        map.remove("c");
+        map.remove("b");
+        assertTrue(map.isEmpty());
+        map.put("d", 5);
+        assertEquals(Arrays.asList("d"), new ArrayList(map.keySet()));
+    }
+
+    public void testSameAsLinkedHashMap() {
+        CompactOrderedMap map = new CompactOrderedMap(2);
+        Map expected = new LinkedHashMap();
+        for (int i = 0; i < 2000; i++) {
+            String key = "k" + (i * 7919 % 500);
+            if (i % 3 == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(new ArrayList(expected.entrySet()), new ArrayList(map.entrySet()));
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    public void testPromotionPastFlatCapacity() {
+        CompactOrderedMap map = new CompactOrderedMap();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        assertFalse(map.entrySet().iterator().hasNext());
+        int n = CompactOrderedMap.MAX_FLAT_CAPACITY * 4;
+        for (int i = 0; i < n; i++) {
+            map.put("k" + i, i);
+            for (int j = 0; j <= i; j++) {
+                assertEquals(Integer.valueOf(j), map.get("k" + j));
+            }
+            assertNull(map.get("k" + n));
+        }
+        for (int i = 0; i < n; i += 2) {
+            map.remove("k" + i);
+        }
+        map.put("last", -1);
+        assertEquals(n / 2 + 1, map.size());
+        assertEquals(Integer.valueOf(1), map.get("k1"));
+        assertNull(map.get("k2"));
+        assertEquals("last", new ArrayList(map.keySet()).get(n / 2));
+    }
+
+    public void testIterators() {
+        CompactOrderedMap map = new CompactOrderedMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("k" + i, i);
+        }
+        for (Iterator entries = map.entrySet().iterator(); entries.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) entries.next();
+            int value = (Integer) entry.getValue();
+            if (value % 2 == 0) {
+                entries.remove();
+            } else {
+                entry.setValue(value * 10);
+            }
+        }
+        assertEquals(10, map.size());
+        assertEquals(Integer.valueOf(10), map.get("k1"));
+        assertEquals(Integer.valueOf(190), map.get("k19"));
+        assertTrue(map.keySet().remove("k1"));
+        assertFalse(map.keySet().remove("k1"));
+        assertEquals("k3", map.keySet().iterator().next());
+
+        Iterator keys = map.keySet().iterator();
+        keys.next();
+        map.put("new", 1);
+        try {
+            keys.next();
+            fail("Expected a ConcurrentModificationException");
+        } catch (ConcurrentModificationException expected) {
+            // ok
+        }
+    }
+
+    public void testEntriesSurviveCompaction() {
+        CompactOrderedMap map = new CompactOrderedMap(4);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.put("d", 4);
+        Map.Entry d = null;
+        for (Iterator entries = map.entrySet().iterator(); entries.hasNext(); ) {
+            d = (Map.Entry) entries.next();
+        }
+        map.remove("a");
+        map.remove("b");
+        map.remove("c");
+        map.put("e", 5);
+        assertEquals(Integer.valueOf(4), d.getValue());
+        d.setValue(6);
+        assertEquals(Integer.valueOf(6), map.get("d"));
+    }
+
+    public void testClear() {
+        CompactOrderedMap map = new CompactOrderedMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        map.put("b", 3);
+        assertEquals("{b=3}", map.toString());
+    }
+
+    public void testNullKey() {
+        try {
+            new CompactOrderedMap().put(null, 1);
+            fail("Expected a NullPointerException");
+        } catch (NullPointerException expected) {
+            // ok
+        }
+    }
+
+    public void testSerialization() throws Exception {
+        CompactOrderedMap map = new CompactOrderedMap();
+        map.put("a", 1);
+        map.put("b", "x");
+        map.remove("a");
+        map.put("c", null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(map);
+        out.close();
+        CompactOrderedMap copy = (CompactOrderedMap) new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals(map, copy);
+        List keys = new ArrayList(copy.keySet());
+        assertEquals(Arrays.asList("b", "c"), keys);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.Iterator;
+
+public class TestIndexedJSON extends TestCase {
+    /**
+     * Brackets and quotes inside strings, keys that need JSON Pointer or
+     * string escaping, numbers that do not fit a long and empty containers
+     * with and without whitespace.
+     */
+    private static final String INDEX_EDGE_CASES = "{ \"id\" : 7, \"name\":\"gate\\\"way\", \"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},"
+        + "{\"id\":2,\"text\":\"} ] , [\"}], \"flags\":[true,false,null], \"big\":123456789012345678901234567890,"
+        + "\"ratio\":-2.5e-1, \"a/b\":1, \"m~n\":2, \"esc\\u0061ped\":3, \"empty\":{}, \"none\":[ ], \"one\":[ 1 ]}";
+
+    public TestIndexedJSON(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestIndexedJSON.class);
+    }
+
+    public void testGet() {
+        IndexedJSON json = IndexedJSON.fromString(INDEX_EDGE_CASES);
+        assertFalse(json.isArray());
+        assertEquals(Integer.valueOf(7), json.get("id"));
+        assertEquals("gate\"way", json.get("name"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), json.get("big"));
+        assertEquals(Double.valueOf(-0.25d), json.get("ratio"));
+        assertEquals(Integer.valueOf(3), json.get("escaped"));
+        assertNull(json.get("missing"));
+        assertTrue(json.has("empty"));
+        assertFalse(json.has("missing"));
+
+        IndexedJSON items = (IndexedJSON) json.get("items");
+        assertTrue(items.isArray());
+        assertEquals(2, items.size());
+        assertEquals("} ] , [", ((IndexedJSON) items.get(1)).get("text"));
+        assertNull(items.get(2));
+
+        IndexedJSON flags = (IndexedJSON) json.get("flags");
+        assertEquals(Boolean.TRUE, flags.get(0));
+        assertEquals(Boolean.FALSE, flags.get(1));
+        assertEquals(JSONNull.getInstance(), flags.get(2));
+    }
+
+    public void testSizes() {
+        IndexedJSON json = IndexedJSON.fromString(INDEX_EDGE_CASES);
+        assertEquals(JSONObject.fromObject(INDEX_EDGE_CASES).size(), json.size());
+        assertTrue(((IndexedJSON) json.get("empty")).isEmpty());
+        assertTrue(((IndexedJSON) json.get("none")).isEmpty());
+        assertFalse(((IndexedJSON) json.get("one")).isEmpty());
+        assertEquals(1, ((IndexedJSON) json.get("one")).size());
+        assertEquals(0, ((IndexedJSON) json.get("none")).size());
+        IndexedJSON array = IndexedJSON.fromString("[1,{\"a\":[]},\"x\"]");
+        assertEquals(3, array.size());
+        assertEquals("x", array.get(2));
+        assertEquals(0, ((IndexedJSON) ((IndexedJSON) array.get(1)).get("a")).size());
+    }
+
+    public void testGetPath() {
+        IndexedJSON json = IndexedJSON.fromString(INDEX_EDGE_CASES);
+        assertEquals("b", json.getPath("/items/0/tags/1"));
+        assertEquals(Integer.valueOf(2), json.getPath("/items/1/id"));
+        assertEquals(Integer.valueOf(1), json.getPath("/a~1b"));
+        assertEquals(Integer.valueOf(2), json.getPath("/m~0n"));
+        assertSame(json, json.getPath(""));
+        assertNull(json.getPath("/items/5/id"));
+        assertNull(json.getPath("/items/01"));
+        assertNull(json.getPath("/id/x"));
+    }
+
+    public void testKeys() {
+        Iterator expected = JSONObject.fromObject(INDEX_EDGE_CASES)
+            .keys();
+        Iterator keys = IndexedJSON.fromString(INDEX_EDGE_CASES)
+            .keys();
+        while (expected.hasNext()) {
+            assertEquals(expected.next(), keys.next());
+        }
+        assertFalse(keys.hasNext());
+    }
+
+    public void testToJSON() throws Exception {
+        IndexedJSON json = IndexedJSON.fromString(INDEX_EDGE_CASES);
+        assertEquals(JSONObject.fromObject(INDEX_EDGE_CASES), json.toJSON());
+        IndexedJSON items = (IndexedJSON) json.get("items");
+        assertEquals(JSONObject.fromObject(INDEX_EDGE_CASES)
+            .getJSONArray("items"), items.toJSON());
+        assertEquals("[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"text\":\"} ] , [\"}]", items.toString());
+        StringWriter writer = new StringWriter();
+        ((IndexedJSON) json.getPath("/items/0")).write(writer);
+        assertEquals("{\"id\":1,\"tags\":[\"a\",\"b\"]}", writer.toString());
+        writer = new StringWriter();
+        IndexedJSON.fromString("{\"b\":1,\"a\":[2]}")
+            .writeCanonical(writer);
+        assertEquals("{\"a\":[2],\"b\":1}", writer.toString());
+        assertEquals(JSONArray.fromObject("[1,[2]]")
+            .toString(2), IndexedJSON.fromString("[1,[2]]")
+            .toString(2));
+    }
+
+    public void testStructureErrors() {
+        assertStructureError("");
+        assertStructureError("1");
+        assertStructureError("{\"a\":1");
+        assertStructureError("{\"a\":[1}");
+        assertStructureError("[1]]");
+        assertStructureError("[1] [2]");
+        assertStructureError("[1] x");
+        assertStructureError("[\"abc]");
+    }
+
+    public void testValueErrors() {
+        assertValueError("{\"a\" 1}", "a");
+        assertValueError("{a:1}", "a");
+        assertValueError("{\"a\":}", "a");
+        assertValueError("{\"a\":1 2}", "a");
+        assertValueError("{\"a\":tru}", "a");
+        assertValueError("[1,,2]", null);
+        assertValueError("[1 \"x\"]", null);
+    }
+
+    private void assertStructureError(String text) {
+        try {
+            IndexedJSON.fromString(text);
+            fail("Expected a JSONException for " + text);
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    private void assertValueError(String text, String key) {
+        IndexedJSON json = IndexedJSON.fromString(text);
+        try {
+            if (key != null) {
+                json.get(key);
+            } else {
+                json.get(2);
+            }
+            fail("Expected a JSONException for " + text);
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+}
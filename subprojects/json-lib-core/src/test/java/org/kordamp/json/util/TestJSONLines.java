@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+import org.kordamp.json.sample.BeanA;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestJSONLines extends TestCase {
+    /**
+     * One value of each kind per line, with CRLF and padded lines, blank and
+     * whitespace only lines to skip, an escaped line break inside a string
+     * and no newline after the last line.
+     */
+    private static final String MIXED_LINES = "{\"id\":1,\"name\":\"a\"}\n"
+        + "  [1,2,3]  \r\n"
+        + "\n"
+        + "   \t\n"
+        + "null\n"
+        + "{\"id\":2,\"name\":\"line\\nbreak\"}";
+
+    public TestJSONLines(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONLines.class);
+    }
+
+    public void testIterator() throws Exception {
+        JSONLinesReader reader = new JSONLinesReader(new StringReader(MIXED_LINES));
+        assertTrue(reader.hasNext());
+        assertEquals(JSONObject.fromObject("{\"id\":1,\"name\":\"a\"}"), reader.next());
+        assertEquals(JSONArray.fromObject("[1,2,3]"), reader.next());
+        assertEquals(JSONNull.getInstance(), reader.next());
+        assertEquals(5, reader.getLineNumber());
+        assertEquals("line\nbreak", ((JSONObject) reader.next()).getString("name"));
+        assertFalse(reader.hasNext());
+        assertEquals(6, reader.getLineNumber());
+        reader.close();
+    }
+
+    public void testLongLines() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            JSONArray jsonArray = new JSONArray();
+            for (int j = 0; j < 5000; j++) {
+                jsonArray.element(i * j);
+            }
+            sb.append(jsonArray)
+                .append('\n');
+        }
+        JSONLinesReader reader = new JSONLinesReader(new StringReader(sb.toString()));
+        int count = 0;
+        while (reader.hasNext()) {
+            JSONArray jsonArray = (JSONArray) reader.next();
+            assertEquals(5000, jsonArray.size());
+            assertEquals(count * 4999, jsonArray.getInt(4999));
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
+    public void testSyntaxErrorNamesTheLine() {
+        JSONLinesReader reader = new JSONLinesReader(new StringReader("{\"id\":1}\n\n{\"id\":}\n{\"id\":3}"));
+        reader.next();
+        try {
+            reader.next();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            assertTrue(expected.getMessage()
+                .startsWith("Line 3: "));
+        }
+        assertEquals(3, ((JSONObject) reader.next()).getInt("id"));
+    }
+
+    public void testJsonConfig() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setExcludes(new String[]{"name"});
+        JSONLinesReader reader = new JSONLinesReader(new StringReader(MIXED_LINES), jsonConfig);
+        assertFalse(((JSONObject) reader.next()).has("name"));
+    }
+
+    public void testStream() {
+        List values = new JSONLinesReader(new StringReader(MIXED_LINES)).stream()
+            .collect(Collectors.toList());
+        assertEquals(4, values.size());
+        assertEquals(JSONNull.getInstance(), values.get(2));
+    }
+
+    public void testParallelStream() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("{\"id\":")
+                .append(i)
+                .append(",\"tags\":[\"a\",\"b\"]}\n");
+        }
+        try (Stream<JSON> stream = new JSONLinesReader(new StringReader(sb.toString())).stream(true)) {
+            List values = stream.collect(Collectors.toList());
+            assertEquals(5000, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(i, ((JSONObject) values.get(i)).getInt("id"));
+            }
+        }
+    }
+
+    public void testWriter() throws Exception {
+        StringWriter out = new StringWriter();
+        JSONLinesWriter writer = new JSONLinesWriter(out, new JsonConfig(), 2);
+        writer.write(JSONObject.fromObject("{\"id\":1}"));
+        assertEquals("", out.toString());
+        writer.write(JSONArray.fromObject("[1,\"a\\nb\"]"));
+        assertEquals("{\"id\":1}\n[1,\"a\\nb\"]\n", out.toString());
+        writer.write(JSONNull.getInstance());
+        writer.write(new BeanA());
+        writer.close();
+
+        JSONLinesReader reader = new JSONLinesReader(new StringReader(out.toString()));
+        List values = new ArrayList();
+        while (reader.hasNext()) {
+            values.add(reader.next());
+        }
+        assertEquals(4, values.size());
+        assertEquals(JSONObject.fromObject(new BeanA()), values.get(3));
+    }
+
+    public void testPath() throws Exception {
+        Path path = Files.createTempFile("json-lines", ".jsonl");
+        try {
+            try (JSONLinesWriter writer = JSONLinesWriter.open(path, new JsonConfig())) {
+                writer.write(JSONObject.fromObject("{\"id\":1,\"name\":\"été\"}"));
+            }
+            try (JSONLinesWriter writer = JSONLinesWriter.open(path, new JsonConfig())) {
+                writer.write(JSONObject.fromObject("{\"id\":2}"));
+            }
+            assertEquals(2, Files.readAllLines(path, StandardCharsets.UTF_8)
+                .size());
+            try (JSONLinesReader reader = JSONLinesReader.open(path, new JsonConfig())) {
+                assertEquals("été", ((JSONObject) reader.next()).getString("name"));
+                assertEquals(2, ((JSONObject) reader.next()).getInt("id"));
+                assertFalse(reader.hasNext());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONFunction;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.io.StringReader;
+
+import static org.kordamp.json.util.JSONReader.Token.END_ARRAY;
+import static org.kordamp.json.util.JSONReader.Token.END_OBJECT;
+import static org.kordamp.json.util.JSONReader.Token.FIELD_NAME;
+import static org.kordamp.json.util.JSONReader.Token.START_ARRAY;
+import static org.kordamp.json.util.JSONReader.Token.START_OBJECT;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_FALSE;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_FUNCTION;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_NULL;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_NUMBER;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_STRING;
+import static org.kordamp.json.util.JSONReader.Token.VALUE_TRUE;
+
+public class TestJSONReader extends TestCase {
+    public TestJSONReader(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestJSONReader.class);
+    }
+
+    public void testTokens() {
+        JSONReader reader = new JSONReader("{\"a\":1,\"b\":[true,false,null,\"s\",2.5],\"c\":{}}");
+        assertEquals(START_OBJECT, reader.nextToken());
+        assertEquals(0, reader.getDepth());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals("a", reader.getText());
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(1L, reader.getLong());
+        assertEquals("a", reader.getCurrentName());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals("b", reader.getCurrentName());
+        assertEquals(1, reader.getDepth());
+        assertEquals(VALUE_TRUE, reader.nextToken());
+        assertTrue(reader.getBoolean());
+        assertEquals(2, reader.getDepth());
+        assertEquals(VALUE_FALSE, reader.nextToken());
+        assertEquals(VALUE_NULL, reader.nextToken());
+        assertEquals(VALUE_STRING, reader.nextToken());
+        assertEquals("s", reader.getText());
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(2.5d, reader.getDouble(), 0d);
+        assertEquals(END_ARRAY, reader.nextToken());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals(START_OBJECT, reader.nextToken());
+        assertEquals(END_OBJECT, reader.nextToken());
+        assertEquals(END_OBJECT, reader.nextToken());
+        assertNull(reader.nextToken());
+        assertNull(reader.getCurrentToken());
+    }
+
+    public void testLenientSyntax() {
+        JSONReader reader = new JSONReader("{a:'x'; b=>[,1,]}");
+        assertEquals(START_OBJECT, reader.nextToken());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals("a", reader.getText());
+        assertEquals(VALUE_STRING, reader.nextToken());
+        assertEquals("x", reader.getText());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals("b", reader.getText());
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals(VALUE_NULL, reader.nextToken());
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(END_ARRAY, reader.nextToken());
+        assertEquals(END_OBJECT, reader.nextToken());
+        assertNull(reader.nextToken());
+    }
+
+    public void testFunction() {
+        JSONReader reader = new JSONReader("[function(a){ return a; }]");
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals(VALUE_FUNCTION, reader.nextToken());
+        assertEquals(new JSONFunction(new String[]{"a"}, "return a;"), reader.getValue());
+        assertEquals(END_ARRAY, reader.nextToken());
+    }
+
+    public void testSkipChildren() {
+        JSONReader reader = new JSONReader("{\"skip\":{\"a\":[1,[2,{}]],\"b\":2},\"keep\":3}");
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(START_OBJECT, reader.nextToken());
+        reader.skipChildren();
+        assertEquals(END_OBJECT, reader.getCurrentToken());
+        assertEquals(FIELD_NAME, reader.nextToken());
+        assertEquals("keep", reader.getText());
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(3, reader.getInt());
+    }
+
+    public void testReadTree() {
+        String text = "[{\"id\":1,\"tags\":[\"a\"]},{\"id\":2,\"tags\":[]},null,[3]]";
+        JSONReader reader = new JSONReader(new StringReader(text));
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals(START_OBJECT, reader.nextToken());
+        JSON first = reader.readTree();
+        assertEquals(JSONObject.fromObject("{\"id\":1,\"tags\":[\"a\"]}"), first);
+        assertEquals(END_OBJECT, reader.getCurrentToken());
+        assertEquals(START_OBJECT, reader.nextToken());
+        assertEquals(2, ((JSONObject) reader.readTree()).getInt("id"));
+        assertEquals(VALUE_NULL, reader.nextToken());
+        assertEquals(JSONNull.getInstance(), reader.readTree());
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals(JSONArray.fromObject("[3]"), reader.readTree());
+        assertEquals(END_ARRAY, reader.nextToken());
+        assertNull(reader.nextToken());
+    }
+
+    public void testReadTreeFromFieldName() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setExcludes(new String[]{"secret"});
+        JSONReader reader = new JSONReader(new JSONTokener("{\"data\":{\"x\":1,\"secret\":2}}"), jsonConfig);
+        reader.nextToken();
+        assertEquals(FIELD_NAME, reader.nextToken());
+        JSONObject data = (JSONObject) reader.readTree();
+        assertEquals(1, data.size());
+        assertEquals(END_OBJECT, reader.nextToken());
+    }
+
+    public void testTopLevelSequence() {
+        JSONReader reader = new JSONReader("1 \"two\" [3]");
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(VALUE_STRING, reader.nextToken());
+        assertEquals(START_ARRAY, reader.nextToken());
+        assertEquals(VALUE_NUMBER, reader.nextToken());
+        assertEquals(END_ARRAY, reader.nextToken());
+        assertNull(reader.nextToken());
+    }
+
+    public void testErrors() {
+        assertSyntaxError("{\"a\" 1}");
+        assertSyntaxError("{\"a\":1 \"b\":2}");
+        assertSyntaxError("[1 [2]]");
+        assertSyntaxError("[1,");
+        assertSyntaxError("{[1]:2}");
+    }
+
+    public void testWrongAccessor() {
+        JSONReader reader = new JSONReader("[\"x\"]");
+        reader.nextToken();
+        reader.nextToken();
+        try {
+            reader.getLong();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    private void assertSyntaxError(String text) {
+        try {
+            JSONReader reader = new JSONReader(new StringReader(text));
+            while (reader.nextToken() != null) {
+                // consume
+            }
+            fail("Expected a JSONException for " + text);
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+}
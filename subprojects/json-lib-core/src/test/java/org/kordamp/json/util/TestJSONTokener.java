@@ -19,6 +19,10 @@ package org.kordamp.json.util;
 
 import junit.framework.TestCase;
 import org.kordamp.json.JSONException;
+import org.kordamp.json.JsonConfig;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * @author Andres Almiray
@@ -89,6 +93,83 @@ public class TestJSONTokener extends TestCase {
         assertFalse(new JSONTokener("nnulll").startsWith("null"));
     }
 
+    public void testNextValue_integers() {
+        assertEquals(Integer.valueOf(0), nextValue("0"));
+        assertEquals(Integer.valueOf(-12), nextValue("-12,"));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), nextValue("2147483647]"));
+        assertEquals(Long.valueOf(2147483648L), nextValue("2147483648}"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), nextValue("-2147483648"));
+        assertEquals(Long.valueOf(-2147483649L), nextValue("-2147483649"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), nextValue("9223372036854775807"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), nextValue("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), nextValue("9223372036854775808"));
+        assertEquals(new BigInteger("-99999999999999999999999"), nextValue("-99999999999999999999999 ,"));
+    }
+
+    public void testNextValue_decimals() {
+        assertEquals(Double.valueOf(0.5d), nextValue("0.5"));
+        assertEquals(Double.valueOf(-1500d), nextValue("-1.5e+3,"));
+        assertEquals(Double.valueOf(0.000123d), nextValue("123e-6]"));
+        assertEquals(Double.valueOf(-0d), nextValue("-0.0"));
+        assertEquals(Double.valueOf(1.7976931348623157e308), nextValue("1.7976931348623157e308"));
+        assertEquals(new BigDecimal("3.14159265358979323846"), nextValue("3.14159265358979323846"));
+        assertEquals(new BigDecimal("5e-324"), nextValue("5e-324"));
+        assertEquals(new BigDecimal("1e400"), nextValue("1e400"));
+        assertEquals("1e100000000000", nextValue("1e100000000000"));
+    }
+
+    public void testNextValue_lenientNumbers() {
+        assertEquals(Integer.valueOf(10), nextValue("012"));
+        assertEquals(Integer.valueOf(31), nextValue("0x1F"));
+        assertEquals(Integer.valueOf(1), nextValue("+1"));
+        assertEquals(Float.valueOf(0.5f), nextValue(".5"));
+        assertEquals("1 2", nextValue("1 2"));
+        assertEquals("2abc", nextValue("2abc"));
+        assertEquals("-", nextValue("-]"));
+    }
+
+    public void testNextValue_strictNumbers() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setStrictMode(true);
+        assertEquals(Long.valueOf(12345678901L), new JSONTokener("12345678901").nextValue(jsonConfig));
+        assertEquals(Double.valueOf(2.5d), new JSONTokener("2.5").nextValue(jsonConfig));
+        String[] invalid = {"012", "-", "1.", "1e", "1e+", "-.5"};
+        for (int i = 0; i < invalid.length; i++) {
+            try {
+                new JSONTokener(invalid[i]).nextValue(jsonConfig);
+                fail("Expected a JSONException for " + invalid[i]);
+            } catch (JSONException expected) {
+                // ok
+            }
+        }
+    }
+
+    public void testNextValue_positionAfterNumber() {
+        JSONTokener tok = new JSONTokener("12.5 ,true");
+        assertEquals(Double.valueOf(12.5d), tok.nextValue());
+        assertEquals(',', tok.nextClean());
+        assertEquals(Boolean.TRUE, tok.nextValue());
+    }
+
+    public void testSkipValue() {
+        JSONTokener tok = new JSONTokener("[{\"a\":[1,\"],}\\\"\"]} , 'x,y' ;it's , 12.5e3]");
+        tok.next();
+        tok.skipValue();
+        assertEquals(',', tok.nextClean());
+        tok.skipValue();
+        assertEquals(';', tok.nextClean());
+        tok.skipValue();
+        assertEquals(',', tok.nextClean());
+        tok.skipValue();
+        assertEquals(']', tok.nextClean());
+        try {
+            new JSONTokener("[[1,2]").skipValue();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
     public void testReset() {
         JSONTokener tok = new JSONTokener("abc");
         tok.next();
@@ -97,4 +178,25 @@ public class TestJSONTokener extends TestCase {
         tok.reset();
         assertEquals('a', tok.next());
     }
-}
\ No newline at end of file
+
+    public void testReset_newSource() {
+        JSONTokener tok = new JSONTokener("\"a\\nb\"");
+        assertEquals("a\nb", tok.nextValue());
+        assertSame(tok, tok.reset(" [1, 'x'] "));
+        assertEquals('[', tok.next());
+        assertEquals(Integer.valueOf(1), tok.nextValue());
+        tok.reset("'c\\td'");
+        assertEquals("c\td", tok.nextValue());
+        assertFalse(tok.reset(null).more());
+        try {
+            tok.reset("[1,2");
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    private Object nextValue(String text) {
+        return new JSONTokener(text).nextValue();
+    }
+}
@@ -54,6 +54,26 @@ public class TestJSONUtils extends TestCase {
         assertEquals("", JSONUtils.getFunctionParams("notAFunction"));
     }
 
+    public void testHashCode_integralNumbers() {
+        long[] values = {0, 7, -7, 10, -100, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE,
+            Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            assertEquals(String.valueOf(value)
+                .hashCode(), JSONUtils.hashCode(Long.valueOf(value)));
+            assertEquals(String.valueOf((int) value)
+                .hashCode(), JSONUtils.hashCode(Integer.valueOf((int) value)));
+        }
+        assertEquals("-12".hashCode(), JSONUtils.hashCode(Short.valueOf((short) -12)));
+        assertEquals("127".hashCode(), JSONUtils.hashCode(Byte.valueOf((byte) 127)));
+    }
+
+    public void testHashCode_booleansAndDecimals() {
+        assertEquals("true".hashCode(), JSONUtils.hashCode(Boolean.TRUE));
+        assertEquals("false".hashCode(), JSONUtils.hashCode(Boolean.FALSE));
+        assertEquals("1.5".hashCode(), JSONUtils.hashCode(Double.valueOf(1.5d)));
+    }
+
     public void testIsArray() {
         assertTrue(JSONUtils.isArray(new Object[0]));
         assertTrue(JSONUtils.isArray(new boolean[0]));
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestMappedJSONTokener extends TestCase {
+    /**
+     * Strings, numbers and multi-byte characters longer than the 16 byte
+     * windows of testSmallChunks.
+     */
+    private static final String LONGER_THAN_WINDOW = "{\"a string longer than a window\":\"tab\\tquote\\\"\\u00e9 café € 😀\","
+        + "\"number\":-12345678901234.5e-3,\"literals\":[true,false,null],\"deep\":[[[{\"x\":[]}]]]}";
+
+    private Path file;
+
+    public TestMappedJSONTokener(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestMappedJSONTokener.class);
+    }
+
+    public void testToJSON_object() throws IOException {
+        write(LONGER_THAN_WINDOW);
+        JSON json = JSONSerializer.toJSON(file, new JsonConfig());
+        assertEquals(JSONObject.fromObject(LONGER_THAN_WINDOW), json);
+    }
+
+    public void testToJSON_array() throws IOException {
+        write("  [" + LONGER_THAN_WINDOW + ", 3]\n");
+        JSON json = JSONSerializer.toJSON(file, new JsonConfig());
+        assertTrue(json.isArray());
+        assertEquals(JSONObject.fromObject(LONGER_THAN_WINDOW), ((JSONArray) json).get(0));
+    }
+
+    public void testToJSON_null() throws IOException {
+        write("null");
+        assertEquals(JSONNull.getInstance(), JSONSerializer.toJSON(file, new JsonConfig()));
+    }
+
+    public void testToJSON_missingFile() throws IOException {
+        write("");
+        Files.delete(file);
+        try {
+            JSONSerializer.toJSON(file, new JsonConfig());
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testSmallChunks() throws IOException {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(LONGER_THAN_WINDOW);
+        }
+        sb.append(']');
+        write(sb.toString());
+        try (MappedJSONTokener tokener = new MappedJSONTokener(file, 16)) {
+            JSONArray jsonArray = JSONArray.fromObject(tokener);
+            assertEquals(50, jsonArray.size());
+            assertEquals(JSONObject.fromObject(LONGER_THAN_WINDOW), jsonArray.get(49));
+        }
+    }
+
+    public void testFileEndingOnAWindowBoundary() throws IOException {
+        // 32 bytes, two full windows of 16
+        String text = "{\"k\":\"0123456789abcdefghij\"}    ";
+        assertEquals(32, text.length());
+        write(text);
+        try (MappedJSONTokener tokener = new MappedJSONTokener(file, 16)) {
+            assertEquals("0123456789abcdefghij", JSONObject.fromObject(tokener)
+                .getString("k"));
+        }
+    }
+
+    protected void tearDown() throws Exception {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void write(String text) throws IOException {
+        file = Files.createTempFile("json-lib", ".json");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestNonBlockingJSONParser extends TestCase {
+    /**
+     * Back to back values whose boundaries hide behind escaped quotes and
+     * brackets inside strings, with multi-byte characters that a chunk can
+     * split.
+     */
+    private static final String SPLITTABLE_VALUES = "{\"id\":1,\"name\":\"héllo ☃ \\\"}\\\" ]\"}[1,[2,{}],'x]'] \n null"
+        + "{\"nested\":{\"a\":[true,false]},\"emoji\":\"😀\"}";
+
+    public TestNonBlockingJSONParser(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestNonBlockingJSONParser.class);
+    }
+
+    public void testSingleChunk() {
+        NonBlockingJSONParser parser = new NonBlockingJSONParser();
+        assertEquals(NonBlockingJSONParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.feed(ByteBuffer.wrap(SPLITTABLE_VALUES.getBytes(StandardCharsets.UTF_8)));
+        assertExpectedValues(drain(parser));
+        assertEquals(NonBlockingJSONParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.endOfInput();
+        assertEquals(NonBlockingJSONParser.Event.END_OF_INPUT, parser.next());
+    }
+
+    public void testChunkSizes() {
+        byte[] bytes = SPLITTABLE_VALUES.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size < 12; size++) {
+            NonBlockingJSONParser parser = new NonBlockingJSONParser();
+            List values = new ArrayList();
+            for (int i = 0; i < bytes.length; i += size) {
+                ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(size, bytes.length - i));
+                chunk.put(bytes, i, chunk.capacity())
+                    .flip();
+                parser.feed(chunk);
+                assertFalse(chunk.hasRemaining());
+                values.addAll(drain(parser));
+            }
+            parser.endOfInput();
+            assertExpectedValues(values);
+        }
+    }
+
+    public void testSyntaxErrorInValue() {
+        NonBlockingJSONParser parser = new NonBlockingJSONParser();
+        parser.feed(ByteBuffer.wrap("{\"a\":1}{\"a\" 2}[3]".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(NonBlockingJSONParser.Event.VALUE, parser.next());
+        try {
+            parser.next();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+        assertEquals(NonBlockingJSONParser.Event.VALUE, parser.next());
+        assertEquals(JSONArray.fromObject("[3]"), parser.getValue());
+    }
+
+    public void testStrictMode() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setStrictMode(true);
+        NonBlockingJSONParser parser = new NonBlockingJSONParser(jsonConfig);
+        parser.feed(ByteBuffer.wrap("[\"it's\",1] {'a':1}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(NonBlockingJSONParser.Event.VALUE, parser.next());
+        assertEquals(JSONArray.fromObject("[\"it's\",1]"), parser.getValue());
+        try {
+            parser.next();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testInvalidInput() {
+        NonBlockingJSONParser parser = new NonBlockingJSONParser();
+        try {
+            parser.feed(ByteBuffer.wrap("{} 12".getBytes(StandardCharsets.UTF_8)));
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            assertTrue(expected.getMessage()
+                .indexOf("byte 3") > 0);
+        }
+    }
+
+    public void testEndOfInputInsideValue() {
+        NonBlockingJSONParser parser = new NonBlockingJSONParser();
+        parser.feed(ByteBuffer.wrap("{\"a\":[1,".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(NonBlockingJSONParser.Event.NEED_MORE_INPUT, parser.next());
+        try {
+            parser.endOfInput();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+        try {
+            parser.feed(ByteBuffer.wrap("2]}".getBytes(StandardCharsets.UTF_8)));
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    private static List drain(NonBlockingJSONParser parser) {
+        List values = new ArrayList();
+        while (parser.next() == NonBlockingJSONParser.Event.VALUE) {
+            values.add(parser.getValue());
+        }
+        return values;
+    }
+
+    private static void assertExpectedValues(List values) {
+        assertEquals(4, values.size());
+        JSONObject first = (JSONObject) values.get(0);
+        assertEquals("héllo ☃ \"}\" ]", first.getString("name"));
+        assertEquals(JSONArray.fromObject("[1,[2,{}],'x]']"), values.get(1));
+        assertEquals(JSONNull.getInstance(), values.get(2));
+        JSON last = (JSON) values.get(3);
+        assertEquals("😀", ((JSONObject) last).getString("emoji"));
+        assertEquals(JSONObject.fromObject("{\"a\":[true,false]}"), ((JSONObject) last).getJSONObject("nested"));
+    }
+}
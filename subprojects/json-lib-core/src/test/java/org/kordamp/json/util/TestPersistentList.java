@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestPersistentList extends TestCase {
+    public TestPersistentList(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestPersistentList.class);
+    }
+
+    public void testEditsLeaveTheOriginalUnchanged() {
+        PersistentList list = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList replaced = list.with(1, "x");
+        PersistentList appended = list.plus("d");
+        PersistentList removed = list.without(0);
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(Arrays.asList("a", "x", "c"), replaced);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("b", "c"), removed);
+        assertTrue(list.without(0)
+            .without(0)
+            .without(0)
+            .isEmpty());
+        assertSame(PersistentList.empty(), PersistentList.of(Collections.emptyList()));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    public void testSameAsArrayList() {
+        PersistentList list = PersistentList.empty();
+        List<Object> expected = new ArrayList<Object>();
+        for (int i = 0; i < 5000; i++) {
+            list = list.plus(i);
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < 4990; i++) {
+            int index = (i * 7919) % list.size();
+            if (i % 4 == 0) {
+                list = list.with(index, null);
+                expected.set(index, null);
+            } else {
+                list = list.without(index);
+                expected.remove(index);
+            }
+            assertEquals(expected.size(), list.size());
+            assertEquals(expected.get(index % expected.size()), list.get(index % list.size()));
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < 100; i++) {
+            list = list.plus(-i);
+            expected.add(-i);
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    public void testBulkBuildMatchesAppends() {
+        List<Object> values = new ArrayList<Object>();
+        PersistentList appended = PersistentList.empty();
+        for (int i = 0; i < PersistentList.WIDTH * PersistentList.WIDTH + 1; i++) {
+            values.add(i);
+            appended = appended.plus(i);
+        }
+        PersistentList built = PersistentList.of(values);
+        assertEquals(values, built);
+        assertEquals(appended, built);
+        assertEquals(Integer.valueOf(PersistentList.WIDTH * PersistentList.WIDTH), built.plus("x")
+            .get(PersistentList.WIDTH * PersistentList.WIDTH));
+    }
+
+    public void testIndexOutOfBounds() {
+        PersistentList list = PersistentList.of(Arrays.asList(1, 2));
+        assertOutOfBounds(() -> list.get(2));
+        assertOutOfBounds(() -> list.get(-1));
+        assertOutOfBounds(() -> list.with(2, 3));
+        assertOutOfBounds(() -> list.without(2));
+        assertOutOfBounds(() -> PersistentList.empty()
+            .without(0));
+    }
+
+    public void testMutatorsAreUnsupported() {
+        PersistentList list = PersistentList.of(Arrays.asList(1, 2));
+        assertUnsupported(() -> list.add(3));
+        assertUnsupported(() -> list.set(0, 3));
+        assertUnsupported(() -> list.remove(0));
+        assertUnsupported(list::clear);
+        assertUnsupported(PersistentList.empty()::clear);
+        assertEquals(Arrays.asList(1, 2), list);
+    }
+
+    public void testSerialization() throws Exception {
+        PersistentList list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            list = list.plus(i % 3 == 0 ? null : "v" + i);
+        }
+        list = list.without(50);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(list);
+        out.close();
+        PersistentList copy = (PersistentList) new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals(list, copy);
+        assertEquals(list.plus("x"), copy.plus("x"));
+    }
+
+    private static void assertOutOfBounds(Runnable access) {
+        try {
+            access.run();
+            fail("Expected an IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            // ok
+        }
+    }
+
+    private static void assertUnsupported(Runnable mutation) {
+        try {
+            mutation.run();
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+    }
+}
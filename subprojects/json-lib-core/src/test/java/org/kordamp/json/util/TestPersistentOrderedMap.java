@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TestPersistentOrderedMap extends TestCase {
+    public TestPersistentOrderedMap(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestPersistentOrderedMap.class);
+    }
+
+    public void testEditsLeaveTheOriginalUnchanged() {
+        PersistentOrderedMap map = PersistentOrderedMap.empty()
+            .with("c", 1)
+            .with("a", 2)
+            .with("b", null);
+        PersistentOrderedMap replaced = map.with("a", 5);
+        PersistentOrderedMap removed = map.without("c");
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList(map.keySet()));
+        assertEquals(Arrays.asList(1, 2, null), new ArrayList(map.values()));
+        assertEquals(Arrays.asList(1, 5, null), new ArrayList(replaced.values()));
+        assertEquals(Arrays.asList("a", "b"), new ArrayList(removed.keySet()));
+        assertTrue(map.containsKey("b"));
+        assertFalse(removed.containsKey("c"));
+        assertFalse(map.containsKey(null));
+        assertFalse(map.containsKey(Integer.valueOf(1)));
+        assertSame(map, map.without("x"));
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList(removed.with("c", 3)
+            .keySet()));
+    }
+
+    public void testSameAsLinkedHashMap() {
+        PersistentOrderedMap map = PersistentOrderedMap.empty();
+        Map expected = new LinkedHashMap();
+        for (int i = 0; i < 4000; i++) {
+            String key = "k" + (i * 7919 % 700);
+            if (i % 3 == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(new ArrayList(expected.entrySet()), new ArrayList(map.entrySet()));
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected, PersistentOrderedMap.of(expected));
+    }
+
+    public void testHashCollisions() {
+        // "Aa" and "BB" have the same hash code, so do all the keys below
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB", "Aa", "BB"};
+        PersistentOrderedMap map = PersistentOrderedMap.empty();
+        for (int i = 0; i < keys.length; i++) {
+            map = map.with(keys[i], i);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(Integer.valueOf(i), map.get(keys[i]));
+        }
+        PersistentOrderedMap removed = map.without("AaBB")
+            .without("BBBB");
+        assertNull(removed.get("AaBB"));
+        assertEquals(Integer.valueOf(2), removed.get("BBAa"));
+        assertEquals(Arrays.asList("AaAa", "BBAa", "Aa", "BB"), new ArrayList(removed.keySet()));
+        assertEquals(Integer.valueOf(9), removed.with("BBAa", 9)
+            .get("BBAa"));
+        assertNull(map.get("CCCC"));
+    }
+
+    public void testMutatorsAreUnsupported() {
+        final PersistentOrderedMap map = PersistentOrderedMap.empty()
+            .with("a", 1);
+        assertUnsupported(() -> map.put("b", 2));
+        assertUnsupported(() -> map.remove("a"));
+        assertUnsupported(() -> map.remove("x"));
+        assertUnsupported(map::clear);
+        assertUnsupported(() -> map.keySet()
+            .clear());
+        assertUnsupported(() -> map.entrySet()
+            .iterator()
+            .next()
+            .setValue(2));
+        assertEquals(Integer.valueOf(1), map.get("a"));
+    }
+
+    public void testNullKey() {
+        try {
+            PersistentOrderedMap.empty()
+                .with(null, 1);
+            fail("Expected a NullPointerException");
+        } catch (NullPointerException expected) {
+            // ok
+        }
+    }
+
+    public void testSerialization() throws Exception {
+        PersistentOrderedMap map = PersistentOrderedMap.empty()
+            .with("a", 1)
+            .with("b", "x")
+            .without("a")
+            .with("c", null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(map);
+        out.close();
+        PersistentOrderedMap copy = (PersistentOrderedMap) new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals(map, copy);
+        assertEquals(Arrays.asList("b", "c", "d"), new ArrayList(copy.with("d", 4)
+            .keySet()));
+    }
+
+    private static void assertUnsupported(Runnable mutation) {
+        try {
+            mutation.run();
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class TestPrimitiveList extends TestCase {
+    public TestPrimitiveList(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestPrimitiveList.class);
+    }
+
+    public void testInts() {
+        int[] values = {1, 2, 3};
+        PrimitiveList list = PrimitiveList.of(values);
+        values[0] = 7;
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        list.add(4);
+        list.add(0, 0);
+        assertEquals(Integer.valueOf(2), list.set(2, 9));
+        assertEquals(Integer.valueOf(1), list.remove(1));
+        assertTrue(list.isPrimitive());
+        assertEquals(Arrays.asList(0, 9, 3, 4), list);
+        assertEquals(9, list.getInt(1));
+        assertEquals(9L, list.getLong(1));
+        assertEquals(9d, list.getDouble(1), 0d);
+        assertEquals("4", list.toString(3));
+        try {
+            list.getInt(4);
+            fail("Expected an IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            // ok
+        }
+    }
+
+    public void testLongs() {
+        PrimitiveList list = PrimitiveList.of(new long[]{1, Long.MAX_VALUE});
+        assertEquals(Integer.valueOf(1), list.get(0));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), list.get(1));
+        assertEquals(String.valueOf(Long.MAX_VALUE), list.toString(1));
+        list.add(Integer.valueOf(2));
+        assertTrue(list.isPrimitive());
+        list.add(Long.valueOf(3));
+        assertFalse(list.isPrimitive());
+        assertEquals(Arrays.asList(1, Long.MAX_VALUE, 2, 3L), list);
+    }
+
+    public void testDoubles() {
+        PrimitiveList list = PrimitiveList.of(new double[]{0.5, 100, 1e-7});
+        assertEquals(Double.valueOf(100), list.get(1));
+        assertEquals("100.0", list.toString(1));
+        assertEquals("1.0E-7", list.toString(2));
+        assertEquals(100, list.getInt(1));
+        list.add(Integer.valueOf(1));
+        assertFalse(list.isPrimitive());
+        assertEquals(Arrays.asList(0.5d, 100d, 1e-7d, 1), list);
+    }
+
+    public void testCopy() {
+        PrimitiveList list = PrimitiveList.of(new long[]{1L, 5000000000L});
+        list.add(Integer.valueOf(3));
+        PrimitiveList copy = list.copy();
+        assertTrue(copy.isPrimitive());
+        assertEquals(list, copy);
+        copy.set(0, Integer.valueOf(2));
+        copy.remove(2);
+        assertEquals(Arrays.asList(1, 5000000000L, 3), list);
+        assertEquals(Arrays.asList(2, 5000000000L), copy);
+    }
+
+    public void testPromotion() {
+        PrimitiveList list = PrimitiveList.of(new int[]{1, 2, 3});
+        list.set(1, "x");
+        assertFalse(list.isPrimitive());
+        assertEquals(Arrays.asList(1, "x", 3), list);
+        list.add(null);
+        list.remove(0);
+        assertEquals(Arrays.asList("x", 3, null), list);
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add(5);
+        assertFalse(list.isPrimitive());
+    }
+
+    public void testIterator() {
+        PrimitiveList list = PrimitiveList.of(new int[]{1, 2, 3, 4});
+        for (Iterator values = list.iterator(); values.hasNext(); ) {
+            if (((Integer) values.next()) % 2 == 0) {
+                values.remove();
+            }
+        }
+        assertEquals(Arrays.asList(1, 3), list);
+        assertEquals(Arrays.asList(1, 3).hashCode(), list.hashCode());
+    }
+
+    public void testSerialization() throws Exception {
+        PrimitiveList list = PrimitiveList.of(new double[]{1.5, 2});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(list);
+        out.close();
+        PrimitiveList copy = (PrimitiveList) new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertTrue(copy.isPrimitive());
+        assertEquals(list, copy);
+        assertEquals(2d, copy.getDouble(1), 0d);
+    }
+}
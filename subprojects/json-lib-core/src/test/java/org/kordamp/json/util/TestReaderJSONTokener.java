@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+public class TestReaderJSONTokener extends TestCase {
+    /**
+     * Escapes, numbers and literals long enough to be split by a buffer
+     * refill, parsed with every buffer size from 33 to 72 characters.
+     */
+    private static final String SPLIT_TOKENS = "{\"escapes\":\"tab\\tquote\\\"unicode\\u00e9\\u20ac\",\"numbers\":"
+        + "[-1234567.875e-3,12345678901234567890,0.000001],\"literals\":[true,false,null,true,false,null],"
+        + "\"nested\":[[[{\"a\":[{}]}]]]}";
+
+    public TestReaderJSONTokener(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestReaderJSONTokener.class);
+    }
+
+    public void testNextAndBackAcrossBufferBoundaries() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append((char) ('a' + (i % 26)));
+        }
+        String text = sb.toString();
+        ReaderJSONTokener tok = new ReaderJSONTokener(new StringReader(text), 40);
+        for (int i = 0; i < text.length(); i++) {
+            assertEquals(text.charAt(i), tok.peek());
+            char c = tok.next();
+            assertEquals(text.charAt(i), c);
+            tok.back();
+            assertEquals(c, tok.next());
+        }
+        assertFalse(tok.more());
+        assertEquals(0, tok.next());
+    }
+
+    public void testStartsWithAndSkip() {
+        ReaderJSONTokener tok = new ReaderJSONTokener(new StringReader("   null, abc"));
+        assertTrue(tok.startsWith("null"));
+        assertEquals('c', tok.skipTo('c'));
+        assertEquals('c', tok.next());
+        tok.reset();
+        assertEquals(0, tok.skipTo('z'));
+        assertEquals('n', tok.next());
+        tok.skipPast(", ");
+        assertEquals('a', tok.next());
+    }
+
+    public void testLongStringAcrossBufferBoundaries() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            sb.append("x\\n");
+        }
+        ReaderJSONTokener tok = new ReaderJSONTokener(new StringReader("\"" + sb + "\""), 64);
+        String s = (String) tok.nextValue();
+        assertEquals(600, s.length());
+        assertEquals('\n', s.charAt(599));
+    }
+
+    public void testJSONObjectFromReader() {
+        JSONObject expected = JSONObject.fromObject(SPLIT_TOKENS);
+        JSONObject actual = JSONObject.fromObject(new StringReader(SPLIT_TOKENS), new JsonConfig());
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    public void testTokensSplitByRefills() {
+        String expected = JSONObject.fromObject(SPLIT_TOKENS)
+            .toString();
+        for (int bufferSize = 33; bufferSize <= 72; bufferSize++) {
+            JSONObject actual = JSONObject.fromObject(new ReaderJSONTokener(new StringReader(SPLIT_TOKENS), bufferSize));
+            assertEquals("bufferSize " + bufferSize, expected, actual.toString());
+        }
+    }
+
+    public void testJSONObjectFromReader_null() {
+        assertTrue(JSONObject.fromObject(new StringReader("  null"), new JsonConfig()).isNullObject());
+        assertTrue(JSONObject.fromObject((StringReader) null, new JsonConfig()).isNullObject());
+    }
+
+    public void testJSONArrayFromReader() {
+        String text = "[" + SPLIT_TOKENS + "," + SPLIT_TOKENS + ",3,\"four\"]";
+        JSONArray expected = JSONArray.fromObject(text);
+        JSONArray actual = JSONArray.fromObject(new StringReader(text), new JsonConfig());
+        assertEquals(expected, actual);
+        assertEquals(4, actual.size());
+    }
+
+    public void testJSONSerializerFromReader() {
+        JSON json = JSONSerializer.toJSON(new StringReader(" [1,2,3]"), new JsonConfig());
+        assertTrue(json.isArray());
+        assertEquals(3, json.size());
+
+        json = JSONSerializer.toJSON(new StringReader(SPLIT_TOKENS), new JsonConfig());
+        assertEquals(JSONObject.fromObject(SPLIT_TOKENS), json);
+
+        assertEquals(JSONNull.getInstance(), JSONSerializer.toJSON(new StringReader("null"), new JsonConfig()));
+
+        try {
+            JSONSerializer.toJSON(new StringReader("true"), new JsonConfig());
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+
+    public void testInputStream() {
+        byte[] bytes = "{\"text\":\"café €\"}".getBytes(StandardCharsets.UTF_8);
+        JSONObject actual = JSONObject.fromObject(new ReaderJSONTokener(new ByteArrayInputStream(bytes)));
+        assertEquals("café €", actual.getString("text"));
+    }
+
+    public void testUnterminatedObject() {
+        try {
+            JSONObject.fromObject(new StringReader("{\"a\":1"), new JsonConfig());
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+}
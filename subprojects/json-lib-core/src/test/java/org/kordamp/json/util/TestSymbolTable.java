@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JsonConfig;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+public class TestSymbolTable extends TestCase {
+    /**
+     * Two objects repeating the same keys, double quoted, escaped, single
+     * quoted and unquoted.
+     */
+    private static final String REPEATED_KEYS = "[{\"id\":1,\"name\":\"a\",\"esc\\u0061ped\":1,'single':2,bare:3},"
+        + "{\"id\":2,\"name\":\"b\",\"esc\\u0061ped\":1,'single':2,bare:3}]";
+
+    public TestSymbolTable(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestSymbolTable.class);
+    }
+
+    public void testLookup() {
+        SymbolTable symbols = new SymbolTable();
+        String a = symbols.lookup("xxkeyxx", 2, 5);
+        assertEquals("key", a);
+        assertSame(a, symbols.lookup("key".toCharArray(), 0, 3));
+        assertSame(a, symbols.lookup(ByteBuffer.wrap("[key]".getBytes(StandardCharsets.US_ASCII)), 1, 4));
+        assertSame(a, symbols.intern(new String("key")));
+        assertEquals("", symbols.lookup("", 0, 0));
+        assertEquals(2, symbols.size());
+    }
+
+    public void testGrowth() {
+        SymbolTable symbols = new SymbolTable();
+        String[] keys = new String[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = symbols.intern("key" + i);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            assertSame(keys[i], symbols.lookup("key" + i, 0, ("key" + i).length()));
+        }
+        assertEquals(1000, symbols.size());
+    }
+
+    public void testBounded() {
+        SymbolTable symbols = new SymbolTable();
+        for (int i = 0; i < SymbolTable.MAX_SIZE + 100; i++) {
+            assertEquals("key" + i, symbols.intern("key" + i));
+        }
+        assertEquals(SymbolTable.MAX_SIZE, symbols.size());
+    }
+
+    public void testCanonicalKeys_string() {
+        assertCanonicalKeys(JSONArray.fromObject(REPEATED_KEYS, canonicalizing()));
+    }
+
+    public void testCanonicalKeys_reader() {
+        assertCanonicalKeys(JSONArray.fromObject(new StringReader(REPEATED_KEYS), canonicalizing()));
+    }
+
+    public void testCanonicalKeys_utf8() {
+        assertCanonicalKeys(JSONArray.fromObject(
+            new Utf8JSONTokener(REPEATED_KEYS.getBytes(StandardCharsets.UTF_8)), canonicalizing()));
+    }
+
+    public void testCanonicalKeys_strict() {
+        JsonConfig jsonConfig = canonicalizing();
+        jsonConfig.setStrictMode(true);
+        String text = "[{\"id\":1,\"n\\u0061me\":\"a\"},{\"id\":2,\"n\\u0061me\":\"b\"}]";
+        JSONArray jsonArray = JSONArray.fromObject(text, jsonConfig);
+        assertEquals(JSONArray.fromObject(text), jsonArray);
+        assertCanonicalKeys(jsonArray);
+    }
+
+    public void testSameResultAsWithoutCanonicalization() {
+        assertEquals(JSONArray.fromObject(REPEATED_KEYS), JSONArray.fromObject(REPEATED_KEYS, canonicalizing()));
+    }
+
+    private void assertCanonicalKeys(JSONArray jsonArray) {
+        Iterator first = ((JSONObject) jsonArray.get(0)).keys();
+        Iterator second = ((JSONObject) jsonArray.get(1)).keys();
+        int quoted = 0;
+        while (first.hasNext()) {
+            Object a = first.next();
+            Object b = second.next();
+            assertEquals(a, b);
+            if (!"bare".equals(a)) {
+                assertSame(a, b);
+                quoted++;
+            }
+        }
+        assertTrue(quoted >= 2);
+    }
+
+    private JsonConfig canonicalizing() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setCanonicalizeKeys(true);
+        return jsonConfig;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2006-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.json.util;
+
+import junit.framework.TestCase;
+import org.kordamp.json.JSON;
+import org.kordamp.json.JSONArray;
+import org.kordamp.json.JSONException;
+import org.kordamp.json.JSONNull;
+import org.kordamp.json.JSONObject;
+import org.kordamp.json.JSONSerializer;
+import org.kordamp.json.JsonConfig;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class TestUtf8JSONTokener extends TestCase {
+    /**
+     * Two, three and four byte sequences in keys and values, next to escapes.
+     */
+    private static final String MULTI_BYTE = "{\"clé\":\"é\",\"three\":\"€☃\",\"four\":\"😀𝄞\","
+        + "\"mixed\":\"a\\u00e9é\\\"€\\t😀\",\"int\":1,\"array\":[2.5,true,{\"ñ\":[null,\"😀\"]}]}";
+
+    public TestUtf8JSONTokener(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        junit.textui.TestRunner.run(TestUtf8JSONTokener.class);
+    }
+
+    public void testNextDecodesUtf8() {
+        String text = "aé€😀z";
+        Utf8JSONTokener tok = new Utf8JSONTokener(text.getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < text.length(); i++) {
+            assertEquals(text.charAt(i), tok.peek());
+            char c = tok.next();
+            assertEquals(text.charAt(i), c);
+            tok.back();
+            assertEquals(c, tok.next());
+        }
+        assertFalse(tok.more());
+        assertEquals(0, tok.next());
+    }
+
+    public void testMalformedInputIsReplaced() {
+        byte[] bytes = {'"', 'a', (byte) 0xFF, 'b', (byte) 0xC3, '"'};
+        Utf8JSONTokener tok = new Utf8JSONTokener(bytes);
+        assertEquals(new String(bytes, 1, 4, StandardCharsets.UTF_8), tok.nextValue());
+    }
+
+    public void testByteOrderMark() {
+        byte[] text = "[1]".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[text.length + 3];
+        bytes[0] = (byte) 0xEF;
+        bytes[1] = (byte) 0xBB;
+        bytes[2] = (byte) 0xBF;
+        System.arraycopy(text, 0, bytes, 3, text.length);
+        JSONArray jsonArray = JSONArray.fromObject(new Utf8JSONTokener(bytes));
+        assertEquals(1, jsonArray.getInt(0));
+    }
+
+    public void testJSONObjectFromBytes() {
+        JSONObject expected = JSONObject.fromObject(MULTI_BYTE);
+        JSONObject actual = JSONObject.fromObject(new Utf8JSONTokener(MULTI_BYTE.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals("€☃", actual.getString("three"));
+        assertEquals("😀𝄞", actual.getString("four"));
+        assertEquals("aéé\"€\t😀", actual.getString("mixed"));
+    }
+
+    public void testJSONArrayFromRegion() {
+        byte[] bytes = ("xx[" + MULTI_BYTE + ",3]yy").getBytes(StandardCharsets.UTF_8);
+        JSONArray actual = JSONArray.fromObject(new Utf8JSONTokener(bytes, 2, bytes.length - 4));
+        assertEquals(2, actual.size());
+        assertEquals(JSONObject.fromObject(MULTI_BYTE), actual.get(0));
+    }
+
+    public void testJSONSerializerFromByteBuffer() {
+        ByteBuffer heap = ByteBuffer.wrap(MULTI_BYTE.getBytes(StandardCharsets.UTF_8));
+        JSON json = JSONSerializer.toJSON(heap, new JsonConfig());
+        assertEquals(JSONObject.fromObject(MULTI_BYTE), json);
+        assertEquals(0, heap.position());
+
+        byte[] bytes = MULTI_BYTE.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        json = JSONSerializer.toJSON(direct, new JsonConfig());
+        assertEquals(JSONObject.fromObject(MULTI_BYTE), json);
+
+        assertEquals(JSONNull.getInstance(),
+            JSONSerializer.toJSON(ByteBuffer.wrap("null".getBytes(StandardCharsets.UTF_8)), new JsonConfig()));
+    }
+
+    public void testJsonConfigIsApplied() {
+        JsonConfig jsonConfig = new JsonConfig();
+        jsonConfig.setExcludes(new String[]{"int", "array"});
+        JSONObject actual = JSONObject.fromObject(
+            new Utf8JSONTokener(MULTI_BYTE.getBytes(StandardCharsets.UTF_8)), jsonConfig);
+        assertFalse(actual.has("int"));
+        assertFalse(actual.has("array"));
+        assertEquals("é", actual.getString("clé"));
+    }
+
+    public void testWindows() {
+        final byte[] bytes = ("[" + MULTI_BYTE + "," + MULTI_BYTE + "]").getBytes(StandardCharsets.UTF_8);
+        Utf8JSONTokener tok = new Utf8JSONTokener() {
+            {
+                init();
+            }
+
+            protected ByteBuffer window(long offset) {
+                if (offset >= bytes.length) {
+                    return null;
+                }
+                // windows of at most 7 bytes force every token across boundaries
+                int length = (int) Math.min(7, bytes.length - offset);
+                return ByteBuffer.wrap(bytes, (int) offset, length).slice();
+            }
+        };
+        JSONArray actual = JSONArray.fromObject(tok);
+        assertEquals(2, actual.size());
+        assertEquals(JSONObject.fromObject(MULTI_BYTE), actual.get(1));
+    }
+
+    public void testUnterminatedString() {
+        try {
+            new Utf8JSONTokener("\"abc".getBytes(StandardCharsets.UTF_8)).nextValue();
+            fail("Expected a JSONException");
+        } catch (JSONException expected) {
+            // ok
+        }
+    }
+}